@@ -18,6 +18,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path importPath;
+    private Path exportPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +29,28 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the json data file to import into the data file on start-up, or null if there is none.
+     */
+    public Path getImportPath() {
+        return importPath;
+    }
+
+    public void setImportPath(Path importPath) {
+        this.importPath = importPath;
+    }
+
+    /**
+     * Returns the json data file to export the data to on start-up, or null if there is none.
+     */
+    public Path getExportPath() {
+        return exportPath;
+    }
+
+    public void setExportPath(Path exportPath) {
+        this.exportPath = exportPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,10 +64,23 @@ public class AppParameters {
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        appParameters.setImportPath(parsePath(namedParameters.get("import-json"), "import"));
+        appParameters.setExportPath(parsePath(namedParameters.get("export-json"), "export"));
 
         return appParameters;
     }
 
+    private static Path parsePath(String pathParameter, String purpose) {
+        if (pathParameter == null) {
+            return null;
+        }
+        if (!FileUtil.isValidPath(pathParameter)) {
+            logger.warning("Invalid " + purpose + " path " + pathParameter + ". Ignoring it.");
+            return null;
+        }
+        return Paths.get(pathParameter);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +93,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(importPath, otherAppParameters.importPath)
+                && Objects.equals(exportPath, otherAppParameters.exportPath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, importPath, exportPath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("importPath", importPath)
+                .add("exportPath", exportPath)
                 .toString();
     }
 }
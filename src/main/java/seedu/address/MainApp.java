@@ -1,6 +1,7 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -24,11 +25,16 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WarmStartSnapshot;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -47,6 +53,11 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // The snapshot read on startup and written on exit, or null if the data file is not read through a snapshot.
+    private WarmStartSnapshot snapshot;
+    // The modification count of the address book when it was loaded from the data file, or -1 if it was not.
+    private long loadedModificationCount = -1;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing TalentConnect ]===========================");
@@ -58,16 +69,92 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        if (config.isDataSnapshotUsed() && !config.isDataFileBinary() && !config.isDataFileSharded()
+                && !config.isDataFileJournaled()) {
+            snapshot = new WarmStartSnapshot(WarmStartSnapshot.toSnapshotFilePath(storage.getAddressBookFilePath()));
+        }
+
+        Path importPath = appParameters.getImportPath();
+        boolean isDataFileConverted = config.isDataFileBinary() || config.isDataFileSharded();
+        if (importPath == null && isDataFileConverted && !Files.exists(storage.getAddressBookFilePath())
+                && Files.exists(userPrefs.getAddressBookFilePath())) {
+            logger.info("Data file " + storage.getAddressBookFilePath() + " not found, importing json data file "
+                    + "instead.");
+            importPath = userPrefs.getAddressBookFilePath();
+        }
+        if (importPath != null) {
+            importAddressBook(importPath);
+        }
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        if (appParameters.getExportPath() != null) {
+            exportAddressBook(appParameters.getExportPath());
+        }
+
+        logic = new LogicManager(model, storage, loadedModificationCount);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the address book whose json data file is at {@code filePath}, in the format chosen in
+     * {@code config}.
+     */
+    private AddressBookStorage initAddressBookStorage(Path filePath) {
+        AddressBookStorage addressBookStorage;
+        if (config.isDataFileBinary()) {
+            addressBookStorage = new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(filePath));
+        } else if (config.isDataFileSharded()) {
+            addressBookStorage = new ShardedAddressBookStorage(ShardedAddressBookStorage.toShardDirectoryPath(filePath),
+                    config.isDataFilePrettyPrinted(), Math.max(1, config.getPersonDataShards()));
+        } else if (config.isDataFileJournaled()) {
+            addressBookStorage = new JournaledAddressBookStorage(filePath, config.isDataFilePrettyPrinted());
+        } else {
+            addressBookStorage = new JsonAddressBookStorage(filePath, config.isDataFilePrettyPrinted(),
+                    config.isDataFileCompressed());
+        }
+
+        if (config.isDataSavedInBackground()) {
+            addressBookStorage = new WriteBehindAddressBookStorage(addressBookStorage);
+        }
+        return addressBookStorage;
+    }
+
+    /**
+     * Replaces the data in {@code storage} with the data in the json data file at {@code jsonFilePath}.
+     * The data in {@code storage} is left as it is if the json data file cannot be loaded.
+     */
+    private void importAddressBook(Path jsonFilePath) {
+        try {
+            Optional<ReadOnlyAddressBook> importedAddressBook = new JsonAddressBookStorage(jsonFilePath)
+                    .readAddressBook();
+            if (!importedAddressBook.isPresent()) {
+                logger.warning("Data file to import " + jsonFilePath + " not found.");
+                return;
+            }
+            storage.saveAddressBook(importedAddressBook.get());
+            logger.info("Imported data from " + jsonFilePath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not import data from " + jsonFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes the data in {@code model} to a json data file at {@code jsonFilePath}.
+     */
+    private void exportAddressBook(Path jsonFilePath) {
+        try {
+            new JsonAddressBookStorage(jsonFilePath, config.isDataFilePrettyPrinted())
+                    .saveAddressBook(model.getAddressBook());
+            logger.info("Exported data to " + jsonFilePath);
+        } catch (IOException e) {
+            logger.warning("Could not export data to " + jsonFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -78,8 +165,12 @@ public class MainApp extends Application {
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        boolean isLoadedFromDataFile = false;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = readSnapshot(storage);
+            if (!addressBookOptional.isPresent()) {
+                addressBookOptional = storage.readAddressBook();
+            }
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample TalentConnect.");
@@ -87,6 +178,7 @@ public class MainApp extends Application {
             // line below can throw SampleDataLoadingException
             ReadOnlyAddressBook sampleAddressBook = SampleDataUtil.getSampleAddressBook();
             initialData = addressBookOptional.orElse(sampleAddressBook);
+            isLoadedFromDataFile = addressBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty TalentConnect.");
@@ -97,7 +189,49 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model initializedModel = new ModelManager(initialData, userPrefs);
+        if (isLoadedFromDataFile) {
+            loadedModificationCount = initializedModel.getAddressBookModificationCount();
+        }
+        return initializedModel;
+    }
+
+    /**
+     * Returns the address book in the snapshot of {@code storage}'s data file, if snapshots are used and the data file
+     * has not changed since the snapshot was written.
+     */
+    private Optional<ReadOnlyAddressBook> readSnapshot(Storage storage) {
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        try {
+            // Saves still being written in the background must reach the data file before it is compared.
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.warning("Failed to save data " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+        return snapshot.read(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Writes a snapshot of the address book for the next launch to read, if the data file is known to hold the same
+     * address book, either because the address book was loaded from it or because it has been saved since.
+     */
+    private void writeSnapshot() {
+        if (snapshot == null) {
+            return;
+        }
+        if (!logic.isAddressBookSaved()) {
+            logger.info("Data file may not hold the latest data, not writing snapshot "
+                    + snapshot.getSnapshotFilePath());
+            return;
+        }
+        try {
+            snapshot.write(model.getAddressBook(), storage.getAddressBookFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to write snapshot " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -184,6 +318,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TalentConnect ] =============================");
+        try {
+            storage.flushAddressBook();
+            writeSnapshot();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -17,6 +17,14 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean dataFilePrettyPrinted = true;
+    private boolean dataSavedInBackground = true;
+    private boolean dataFileJournaled = false;
+    private boolean dataFileBinary = false;
+    private boolean dataFileSharded = false;
+    private boolean dataFileCompressed = false;
+    private boolean dataSnapshotUsed = true;
+    private int personDataShards = 1;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +42,70 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isDataFilePrettyPrinted() {
+        return dataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean dataFilePrettyPrinted) {
+        this.dataFilePrettyPrinted = dataFilePrettyPrinted;
+    }
+
+    public boolean isDataSavedInBackground() {
+        return dataSavedInBackground;
+    }
+
+    public void setDataSavedInBackground(boolean dataSavedInBackground) {
+        this.dataSavedInBackground = dataSavedInBackground;
+    }
+
+    public boolean isDataFileJournaled() {
+        return dataFileJournaled;
+    }
+
+    public void setDataFileJournaled(boolean dataFileJournaled) {
+        this.dataFileJournaled = dataFileJournaled;
+    }
+
+    public boolean isDataFileBinary() {
+        return dataFileBinary;
+    }
+
+    public void setDataFileBinary(boolean dataFileBinary) {
+        this.dataFileBinary = dataFileBinary;
+    }
+
+    public boolean isDataFileSharded() {
+        return dataFileSharded;
+    }
+
+    public void setDataFileSharded(boolean dataFileSharded) {
+        this.dataFileSharded = dataFileSharded;
+    }
+
+    public boolean isDataFileCompressed() {
+        return dataFileCompressed;
+    }
+
+    public void setDataFileCompressed(boolean dataFileCompressed) {
+        this.dataFileCompressed = dataFileCompressed;
+    }
+
+    public boolean isDataSnapshotUsed() {
+        return dataSnapshotUsed;
+    }
+
+    public void setDataSnapshotUsed(boolean dataSnapshotUsed) {
+        this.dataSnapshotUsed = dataSnapshotUsed;
+    }
+
+    public int getPersonDataShards() {
+        return personDataShards;
+    }
+
+    public void setPersonDataShards(int personDataShards) {
+        this.personDataShards = personDataShards;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +119,22 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && dataFilePrettyPrinted == otherConfig.dataFilePrettyPrinted
+                && dataSavedInBackground == otherConfig.dataSavedInBackground
+                && dataFileJournaled == otherConfig.dataFileJournaled
+                && dataFileBinary == otherConfig.dataFileBinary
+                && dataFileSharded == otherConfig.dataFileSharded
+                && dataFileCompressed == otherConfig.dataFileCompressed
+                && dataSnapshotUsed == otherConfig.dataSnapshotUsed
+                && personDataShards == otherConfig.personDataShards;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, dataFilePrettyPrinted, dataSavedInBackground,
+                dataFileJournaled, dataFileBinary, dataFileSharded, dataFileCompressed, dataSnapshotUsed,
+                personDataShards);
     }
 
     @Override
@@ -60,6 +142,14 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("dataFilePrettyPrinted", dataFilePrettyPrinted)
+                .add("dataSavedInBackground", dataSavedInBackground)
+                .add("dataFileJournaled", dataFileJournaled)
+                .add("dataFileBinary", dataFileBinary)
+                .add("dataFileSharded", dataFileSharded)
+                .add("dataFileCompressed", dataFileCompressed)
+                .add("dataSnapshotUsed", dataSnapshotUsed)
+                .add("personDataShards", personDataShards)
                 .toString();
     }
 
@@ -0,0 +1,139 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a CSV file one at a time, as described in RFC 4180.
+ * <p>
+ * Fields are separated by commas and records by line breaks, which may be {@code \n}, {@code \r\n} or {@code \r}. A
+ * field in double quotes may contain commas, line breaks and double quotes, the last written twice. A byte order mark
+ * at the start of the file is skipped. Only the record being read is held in memory, so files of any size can be read.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "The quoted field starting on line %1$d is not closed";
+
+    private static final char BYTE_ORDER_MARK = 0xFEFF;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int bufferEnd;
+    private int position;
+    private boolean isStarted;
+
+    private int lineNumber = 1;
+    private int recordLineNumber;
+
+    /**
+     * Creates a reader of the CSV records in {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     * An empty line is read as a record with one empty field.
+     *
+     * @throws IOException if the records cannot be read, or the last field starts with a double quote that is not
+     *     closed.
+     */
+    public List<String> readRecord() throws IOException {
+        if (!isStarted) {
+            isStarted = true;
+            if (peek() == BYTE_ORDER_MARK) {
+                position++;
+            }
+        }
+        if (peek() == -1) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            int c = read();
+            if (c == '"' && field.length() == 0) {
+                readQuoted(field);
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == -1 || c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    position++;
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Returns the line on which the record last returned by {@link #readRecord()} starts, counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Appends the rest of a quoted field, whose opening quote has been read, to {@code field}.
+     * Anything between the closing quote and the end of the field is appended as it is.
+     */
+    private void readQuoted(StringBuilder field) throws IOException {
+        int startLineNumber = lineNumber;
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw new IOException(String.format(MESSAGE_UNCLOSED_QUOTE, startLineNumber));
+            }
+            if (c == '"') {
+                if (peek() != '"') {
+                    return;
+                }
+                position++;
+            } else if (c == '\n' || (c == '\r' && peek() != '\n')) {
+                lineNumber++;
+            }
+            field.append((char) c);
+        }
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == bufferEnd) {
+            int count = reader.read(buffer, 0, buffer.length);
+            if (count <= 0) {
+                return -1;
+            }
+            bufferEnd = count;
+            position = 0;
+        }
+        return buffer[position];
+    }
+}
@@ -1,10 +1,16 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +18,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+    private static final int BUFFER_SIZE = 1 << 16;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +83,117 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, see {@link #writeAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with the bytes written by {@code contentWriter}, creating the file and
+     * its missing parent directories if needed.
+     * The bytes are written to a temporary file next to {@code file} through a direct buffer, forced to the disk once,
+     * and the temporary file is then moved over {@code file}, atomically where the file system supports it. If writing
+     * fails, or the app is stopped while writing, {@code file} keeps its old contents.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_EXTENSION);
+        try {
+            writeForced(temporaryFile, contentWriter);
+            moveReplacing(temporaryFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces the contents of {@code file} with the bytes written by {@code contentWriter} in place, creating the
+     * file if needed. The bytes are written through a direct buffer and forced to the disk once.
+     * Unlike {@link #writeAtomically(Path, ContentWriter)}, {@code file} is left partly written if writing fails.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeForced(Path file, ContentWriter contentWriter) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ChannelOutputStream out = new ChannelOutputStream(channel);
+            contentWriter.write(out);
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically where the file system supports it.
+     *
+     * @throws IOException if the file cannot be moved.
+     */
+    public static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * An output stream that collects bytes in a direct buffer, and writes the buffer to a channel whenever it is full.
+     * Closing the stream flushes it, but leaves the channel open.
+     */
+    private static class ChannelOutputStream extends OutputStream {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        ChannelOutputStream(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int chunkLength = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, chunkLength);
+                offset += chunkLength;
+                length -= chunkLength;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
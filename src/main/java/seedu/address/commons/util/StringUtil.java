@@ -38,6 +38,91 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with each character folded to one case, the way {@link String#equalsIgnoreCase(String)}
+     * compares characters, so that two strings are equal ignoring case exactly when their folded forms are equal.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        StringBuilder folded = new StringBuilder(s.length());
+        s.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    /**
+     * Returns the number of single character insertions, deletions, substitutions and swaps of adjacent characters
+     * needed to turn {@code first} into {@code second}, or {@code maxDistance + 1} if more are needed.
+     * Only the cells of the distance table within {@code maxDistance} of its diagonal are filled, and the computation
+     * stops as soon as a whole row exceeds {@code maxDistance}, so checking many strings against a small bound is fast.
+     *   <br>examples:<pre>
+     *       getEditDistance("alice", "alcie", 2) == 1 // two characters swapped
+     *       getEditDistance("alice", "alicia", 2) == 2
+     *       getEditDistance("alice", "bob", 2) == 3 // more than the bound
+     *       </pre>
+     * @param maxDistance cannot be negative
+     */
+    public static int getEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        int firstLength = first.length();
+        int secondLength = second.length();
+        int tooFar = maxDistance + 1;
+        if (Math.abs(firstLength - secondLength) > maxDistance) {
+            return tooFar;
+        }
+
+        // Three rows of the table are kept, as a swap looks two rows back.
+        int[] rowBeforePrevious = new int[secondLength + 1];
+        int[] previousRow = new int[secondLength + 1];
+        int[] row = new int[secondLength + 1];
+        for (int j = 0; j <= secondLength; j++) {
+            previousRow[j] = Math.min(j, tooFar);
+        }
+        for (int i = 1; i <= firstLength; i++) {
+            Arrays.fill(row, tooFar);
+            row[0] = Math.min(i, tooFar);
+            int rowMinimum = row[0];
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(secondLength, i + maxDistance);
+            char firstChar = first.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                char secondChar = second.charAt(j - 1);
+                int distance = Math.min(previousRow[j - 1] + (firstChar == secondChar ? 0 : 1),
+                        Math.min(previousRow[j], row[j - 1]) + 1);
+                if (i > 1 && j > 1 && firstChar == second.charAt(j - 2) && first.charAt(i - 2) == secondChar) {
+                    distance = Math.min(distance, rowBeforePrevious[j - 2] + 1);
+                }
+                row[j] = Math.min(distance, tooFar);
+                rowMinimum = Math.min(rowMinimum, row[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return tooFar;
+            }
+            int[] reusedRow = rowBeforePrevious;
+            rowBeforePrevious = previousRow;
+            previousRow = row;
+            row = reusedRow;
+        }
+        return previousRow[secondLength];
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regex, which only covers ASCII whitespace.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, so that it is not matched by {@code .} in a regex.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
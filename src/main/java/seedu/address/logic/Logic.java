@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -26,6 +27,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in the script at {@code scriptPath} as one batch, saving the data once at the end.
+     *
+     * @param scriptPath The script, with one command as entered by the user on each line.
+     * @param isRolledBackOnFailure Whether the commands before a command that fails are undone.
+     * @return the result of the script execution, with the number of commands executed per second.
+     * @throws CommandException If the script cannot be read, or if a command in it fails.
+     * @see seedu.address.logic.commands.RunCommand
+     */
+    CommandResult executeScript(Path scriptPath, boolean isRolledBackOnFailure) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +45,17 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns true if the address book has been saved to storage since it was last modified.
+     */
+    boolean isAddressBookSaved();
+
+    /**
+     * Sets the listener told the error message of each save that fails after its command has completed, such as a
+     * save written in the background. The listener may be called on any thread.
+     */
+    void setSaveFailureListener(Consumer<String> saveFailureListener);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
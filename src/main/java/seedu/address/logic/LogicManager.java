@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,6 +13,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -34,12 +38,26 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // The modification count of the address book when it was last saved successfully, or -1 if it has not been.
+    // Written by the storage's background thread when a save fails there.
+    private volatile long savedModificationCount = -1;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, -1);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, where {@code storage} already
+     * holds the address book of {@code model} as it was at modification count {@code savedModificationCount}, such
+     * as when the address book was loaded from it. Commands that do not modify the address book then do not save it.
+     */
+    public LogicManager(Model model, Storage storage, long savedModificationCount) {
         this.model = model;
         this.storage = storage;
+        this.savedModificationCount = savedModificationCount;
         addressBookParser = new AddressBookParser();
     }
 
@@ -47,10 +65,43 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return executeCommand(command);
+    }
 
+    @Override
+    public CommandResult executeScript(Path scriptPath, boolean isRolledBackOnFailure) throws CommandException {
+        logger.info("----------------[SCRIPT][" + scriptPath + "]");
+
+        return executeCommand(new RunCommand(scriptPath, isRolledBackOnFailure, addressBookParser::parseCommand));
+    }
+
+    private CommandResult executeCommand(Command command) throws CommandException {
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException ce) {
+            // A command that fails part of the way through, such as a script, may have modified the address book.
+            saveAddressBookIfModified();
+            throw ce;
+        }
+        saveAddressBookIfModified();
+
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book to storage, unless it has not been modified since it was last saved.
+     */
+    private void saveAddressBookIfModified() throws CommandException {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            logger.fine("Address book unchanged since last save, skipping save");
+            return;
+        }
+
+        // Forget the last save first, so that a failed save is retried after the next command.
+        savedModificationCount = -1;
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -58,8 +109,7 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
+        savedModificationCount = modificationCount;
     }
 
     @Override
@@ -67,6 +117,21 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public boolean isAddressBookSaved() {
+        return model.getAddressBookModificationCount() == savedModificationCount;
+    }
+
+    @Override
+    public void setSaveFailureListener(Consumer<String> saveFailureListener) {
+        requireNonNull(saveFailureListener);
+        storage.setSaveFailureListener(ioe -> {
+            // The failed save may have been the last one, so the next command saves again.
+            savedModificationCount = -1;
+            saveFailureListener.accept(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()));
+        });
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
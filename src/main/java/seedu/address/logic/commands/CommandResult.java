@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,6 +21,12 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /**
+     * Feedback to be shown to the user when work that the command left running in the background is done. It completes
+     * with a {@code CommandException} if the work fails.
+     */
+    private final Optional<CompletionStage<String>> pendingFeedback;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -26,6 +34,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.pendingFeedback = Optional.empty();
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, to be followed by
+     * {@code pendingFeedback} once it is complete, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, CompletionStage<String> pendingFeedback) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.pendingFeedback = Optional.of(pendingFeedback);
     }
 
     /**
@@ -48,9 +68,13 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<CompletionStage<String>> getPendingFeedback() {
+        return pendingFeedback;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, pendingFeedback);
     }
 
     @Override
@@ -66,7 +90,7 @@ public class CommandResult {
 
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser) && showHelp == otherCommandResult.showHelp
-               && exit == otherCommandResult.exit;
+               && exit == otherCommandResult.exit && pendingFeedback.equals(otherCommandResult.pendingFeedback);
     }
 
     @Override
@@ -74,6 +98,7 @@ public class CommandResult {
         return new ToStringBuilder(this).add("feedbackToUser", feedbackToUser)
                                         .add("showHelp", showHelp)
                                         .add("exit", exit)
+                                        .add("pendingFeedback", pendingFeedback)
                                         .toString();
     }
 
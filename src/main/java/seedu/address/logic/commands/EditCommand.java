@@ -73,7 +73,6 @@ public class EditCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
-        List<Person> fullPersonList = model.getFullPersonList();
 
         if (index.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_DISPLAYED_INDEX);
@@ -82,16 +81,9 @@ public class EditCommand extends Command {
         Person personToEdit = lastShownList.get(index.getZeroBased());
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
-        // Handles case where edit command changes one of the two fields which uniquely identifies a person, contact
-        // or email. The editedPerson is considered the same person as personToEdit and is counted as a duplicate.
-        // If there are 2 duplicates, it means that there is another existing contact with the same identifier.
-        // While there should not be a case where there are 3 or more duplicates, good to be defensive.
-        if (personToEdit.isSamePerson(editedPerson) && countDuplicatePerson(fullPersonList, editedPerson) >= 2) {
-            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-        }
-        // Handles case where edit command changes both fields that uniquely identify a person. In this case, there
-        // should not be any duplicates at all.
-        if (!personToEdit.isSamePerson(editedPerson) && countDuplicatePerson(fullPersonList, editedPerson) >= 1) {
+        // The edited person may keep the contact or email of personToEdit, but must not share either of the two
+        // fields which uniquely identify a person with any other existing contact.
+        if (model.hasOtherPerson(personToEdit, editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
@@ -121,21 +113,6 @@ public class EditCommand extends Command {
         }
     }
 
-    /**
-     * Counts and returns the number of duplicate persons in the provided list based on the {@code isSamePerson} check
-     * against the specified person.
-     *
-     * @param personList The list of persons to check for duplicates.
-     * @param personToCompare The specified person to be compared against each person in {@code personList}.
-     */
-    private static long countDuplicatePerson(List<Person> personList, Person personToCompare) {
-        long count = personList.stream()
-                .filter(p -> p.isSamePerson(personToCompare))
-                .count();
-
-        return count;
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,154 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.RecordExporter;
+
+/**
+ * Exports the contacts, jobs or companies shown, or all of them, to a CSV or JSON Lines file.
+ * <p>
+ * The records to export are taken from the model when the command is executed, and are written to the file on a
+ * background thread, so that exporting a long list does not freeze the UI. The number of records and bytes written is
+ * reported once the file is complete.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String ALL_FLAG = "--all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the entities identified by argument 'contact', 'company' or 'job' that are shown, or all of "
+            + "them with " + ALL_FLAG + ", to a file. Files ending with "
+            + RecordExporter.Format.CSV.getFileExtension() + " are written as CSV, which can be imported again, and "
+            + "files ending with " + RecordExporter.Format.JSON_LINES.getFileExtension() + " as JSON Lines.\n"
+            + "Parameters: [contact/job/company] [" + ALL_FLAG + "] FILE\n"
+            + "Example: " + COMMAND_WORD + " contact data/screened.csv";
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d %2$s records to %3$s...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s records (%3$d bytes) to %4$s in %5$d ms.";
+    public static final String MESSAGE_FAILED = "Could not export to %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    /** Writes exports one at a time, on a thread that does not keep the app from exiting. */
+    private static final ExecutorService exportExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String entity;
+    private final boolean isAll;
+    private final Path file;
+    private final RecordExporter.Format format;
+
+    /**
+     * Creates a command that exports the entities named by {@code entity} to {@code file} in {@code format}.
+     *
+     * @param entity One of {@code "contact"}, {@code "job"} and {@code "company"}.
+     * @param isAll Whether all the entities are exported, instead of only those shown.
+     */
+    public ExportCommand(String entity, boolean isAll, Path file, RecordExporter.Format format) {
+        requireNonNull(entity);
+        requireNonNull(file);
+        requireNonNull(format);
+        this.entity = entity;
+        this.isAll = isAll;
+        this.file = file;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        switch (entity) {
+        case AddContactCommand.ENTITY_WORD:
+            return export(isAll ? model.getFullPersonList() : model.getFilteredPersonList(),
+                    RecordExporter.forPersons());
+        case AddJobCommand.ENTITY_WORD:
+            return export(isAll ? model.getFullJobList() : model.getFilteredJobList(), RecordExporter.forJobs());
+        case AddCompanyCommand.ENTITY_WORD:
+            return export(isAll ? model.getAddressBook().getCompanyList() : model.getFilteredCompanyList(),
+                    RecordExporter.forCompanies());
+        default:
+            throw new IllegalStateException("Unknown entity: " + entity);
+        }
+    }
+
+    /**
+     * Writes {@code records} with {@code exporter} on the export thread.
+     * Only the references to the records are copied here, as the list may change while the file is being written. The
+     * records themselves are immutable, so they can be read on the export thread. Any failure of the export is logged,
+     * and the pending feedback then completes with a {@code CommandException} reporting it as {@link #MESSAGE_FAILED}.
+     */
+    private <T> CommandResult export(List<T> records, RecordExporter<T> exporter) {
+        List<T> recordsToExport = List.copyOf(records);
+        CompletableFuture<String> feedback = CompletableFuture.supplyAsync(() -> {
+            long startTime = System.nanoTime();
+            try {
+                RecordExporter.Result result = exporter.export(recordsToExport, file, format);
+                return String.format(MESSAGE_SUCCESS, result.getRecordCount(), entity, result.getByteCount(), file,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }, exportExecutor).handle((message, failure) -> {
+            if (failure == null) {
+                return message;
+            }
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            if (cause instanceof UncheckedIOException) {
+                cause = cause.getCause();
+            }
+            logger.warning("Could not export to " + file + ": " + cause);
+            throw new CompletionException(new CommandException(String.format(MESSAGE_FAILED, file,
+                    cause.getMessage()), cause));
+        });
+        return new CommandResult(String.format(MESSAGE_STARTED, recordsToExport.size(), entity, file), feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return entity.equals(otherExportCommand.entity)
+                && isAll == otherExportCommand.isAll
+                && file.equals(otherExportCommand.file)
+                && format == otherExportCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("entity", entity)
+                .add("isAll", isAll)
+                .add("file", file)
+                .add("format", format)
+                .toString();
+    }
+}
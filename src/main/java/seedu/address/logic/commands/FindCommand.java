@@ -9,30 +9,55 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all contacts in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. In fuzzy mode, names with words a few typos away from the keywords are found
+ * too, and listed with the closest names first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
     public static final String ENTITY_WORD = "contact";
+    public static final String FUZZY_FLAG = "--fuzzy";
+    public static final String QUERY_FLAG = "--where";
+    public static final String EXPLAIN_FLAG = "--explain";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all entities specified by the argument "
             + "'contact' that have names that contain any of "
             + "the specified keywords (case-insensitive) and displays them "
-            + "in the specified entity list with index numbers.\n"
-            + "Parameters: [contact] KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " " + ENTITY_WORD + " alice bob charlie";
+            + "in the specified entity list with index numbers. With " + FUZZY_FLAG + ", names with typos are "
+            + "found too, and the closest names are listed first. Jobs are found by the words of their name, "
+            + "company, description and requirements, and the most relevant jobs are listed first. With "
+            + QUERY_FLAG + ", the contacts or jobs meeting all the conditions are found, and " + EXPLAIN_FLAG
+            + " shows how they were found.\n"
+            + "Parameters: [contact] [" + FUZZY_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "or: [job] KEYWORD [MORE_KEYWORDS]...\n"
+            + "or: [contact/job] " + QUERY_FLAG + " CONDITION [and CONDITION]... [" + EXPLAIN_FLAG + "]\n"
+            + "Example: " + COMMAND_WORD + " " + ENTITY_WORD + " alice bob charlie, "
+            + COMMAND_WORD + " job " + QUERY_FLAG + " company=Google and salary>5000 " + EXPLAIN_FLAG;
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a command that finds the contacts with names containing the keywords of {@code predicate}, allowing for
+     * typos if {@code isFuzzy}.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (isFuzzy) {
+            model.updateFilteredPersonListBySimilarName(predicate.getKeywords());
+        } else {
+            model.updateFilteredPersonListByName(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -49,13 +74,14 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate) && isFuzzy == otherFindCommand.isFuzzy;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isFuzzy", isFuzzy)
                 .toString();
     }
 }
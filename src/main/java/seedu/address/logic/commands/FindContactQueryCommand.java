@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryPlan;
+
+/**
+ * Finds and lists all contacts in address book meeting all the conditions of a query, such as
+ * {@code skill=java and status=unmatched}. The conditions are planned to start from the fewest candidates an index
+ * gives, and the plan can be shown with the result.
+ */
+public class FindContactQueryCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+    public static final String ENTITY_WORD = FindCommand.ENTITY_WORD;
+
+    private final List<Condition<Person>> conditions;
+    private final boolean isExplained;
+
+    /**
+     * Creates a command that finds the contacts meeting all of {@code conditions}, showing how they were found if
+     * {@code isExplained}.
+     */
+    public FindContactQueryCommand(List<Condition<Person>> conditions, boolean isExplained) {
+        requireNonNull(conditions);
+        this.conditions = conditions;
+        this.isExplained = isExplained;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan<Person> plan = model.updateFilteredPersonListByQuery(conditions);
+        String result = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        return new CommandResult(isExplained ? result + "\n" + plan.getDescription() : result);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindContactQueryCommand)) {
+            return false;
+        }
+
+        FindContactQueryCommand otherFindCommand = (FindContactQueryCommand) other;
+        return conditions.equals(otherFindCommand.conditions) && isExplained == otherFindCommand.isExplained;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("conditions", conditions)
+                .add("isExplained", isExplained)
+                .toString();
+    }
+}
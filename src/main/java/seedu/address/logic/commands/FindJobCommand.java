@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Finds and lists the jobs in address book most relevant to the argument keywords, with the most relevant first.
+ * A job is relevant if its name, company, description or requirements contain any of the keywords, ignoring case, and
+ * more relevant the more of the rarer keywords they contain.
+ */
+public class FindJobCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+    public static final String ENTITY_WORD = "job";
+
+    /** The most jobs listed, as jobs far down the ranking are seldom relevant. */
+    public static final int MAX_JOBS_LISTED = 50;
+
+    public static final String MESSAGE_JOBS_LISTED_OVERVIEW = "%1$d jobs listed, most relevant first!";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a command that finds the jobs most relevant to {@code keywords}.
+     */
+    public FindJobCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredJobListByRelevance(keywords, MAX_JOBS_LISTED);
+        return new CommandResult(String.format(MESSAGE_JOBS_LISTED_OVERVIEW, model.getFilteredJobList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindJobCommand)) {
+            return false;
+        }
+
+        FindJobCommand otherFindJobCommand = (FindJobCommand) other;
+        return keywords.equals(otherFindJobCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
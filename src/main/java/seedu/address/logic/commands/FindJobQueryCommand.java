@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.job.Job;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryPlan;
+
+/**
+ * Finds and lists all jobs in address book meeting all the conditions of a query, such as
+ * {@code company=Google and salary>5000}. The conditions are planned to start from the fewest candidates an index
+ * gives, and the plan can be shown with the result.
+ */
+public class FindJobQueryCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+    public static final String ENTITY_WORD = FindJobCommand.ENTITY_WORD;
+
+    private final List<Condition<Job>> conditions;
+    private final boolean isExplained;
+
+    /**
+     * Creates a command that finds the jobs meeting all of {@code conditions}, showing how they were found if
+     * {@code isExplained}.
+     */
+    public FindJobQueryCommand(List<Condition<Job>> conditions, boolean isExplained) {
+        requireNonNull(conditions);
+        this.conditions = conditions;
+        this.isExplained = isExplained;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan<Job> plan = model.updateFilteredJobListByQuery(conditions);
+        String result = String.format(Messages.MESSAGE_JOBS_LISTED_OVERVIEW, model.getFilteredJobList().size());
+        return new CommandResult(isExplained ? result + "\n" + plan.getDescription() : result);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindJobQueryCommand)) {
+            return false;
+        }
+
+        FindJobQueryCommand otherFindCommand = (FindJobQueryCommand) other;
+        return conditions.equals(otherFindCommand.conditions) && isExplained == otherFindCommand.isExplained;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("conditions", conditions)
+                .add("isExplained", isExplained)
+                .toString();
+    }
+}
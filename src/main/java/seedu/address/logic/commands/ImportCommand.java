@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.storage.CsvAddressBookImporter;
+
+/**
+ * Imports the contacts, jobs or companies in a CSV file into the address book.
+ * <p>
+ * The records are added to a copy of the address book, which then replaces the address book of the model once, so the
+ * address book is saved once and the lists shown are refreshed once however many records are imported. Rows that
+ * cannot be imported are written to a reject file next to the CSV file, and do not stop the other rows from being
+ * imported.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports the entities identified by argument 'contact', 'company' or 'job' from a CSV file. "
+            + "The first line of the file names the columns: name, phone, email, role, skills and match for "
+            + "contacts; name, company, salary, description and requirements for jobs; and name, address, "
+            + "billing date and phone for companies. Several skills or requirements are separated by "
+            + CsvAddressBookImporter.VALUE_SEPARATOR + ".\n"
+            + "Parameters: [contact/job/company] FILE\n"
+            + "Example: " + COMMAND_WORD + " contact data/contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d %2$s records from %3$s in %4$d ms.";
+    public static final String MESSAGE_REJECTED = "\n%1$d rows could not be imported, see %2$s";
+    public static final String MESSAGE_CANNOT_READ = "Could not import %1$s: %2$s";
+
+    private final String entity;
+    private final Path csvFile;
+
+    /**
+     * Creates a command that imports the entities named by {@code entity} from {@code csvFile}.
+     *
+     * @param entity One of {@code "contact"}, {@code "job"} and {@code "company"}.
+     */
+    public ImportCommand(String entity, Path csvFile) {
+        requireNonNull(entity);
+        requireNonNull(csvFile);
+        this.entity = entity;
+        this.csvFile = csvFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+        AddressBook addressBook = new AddressBook(model.getAddressBook());
+        Path rejectFile = CsvAddressBookImporter.toRejectFilePath(csvFile);
+
+        CsvAddressBookImporter.Result result;
+        try {
+            result = getImporter().importInto(addressBook, csvFile, rejectFile);
+        } catch (IOException | IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, csvFile, e.getMessage()), e);
+        }
+        if (result.getImportedCount() > 0) {
+            model.setAddressBook(addressBook);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        String message = String.format(MESSAGE_SUCCESS, result.getImportedCount(), entity, csvFile, elapsedMillis);
+        if (result.getRejectedCount() > 0) {
+            message += String.format(MESSAGE_REJECTED, result.getRejectedCount(), rejectFile);
+        }
+        return new CommandResult(message);
+    }
+
+    private CsvAddressBookImporter<?> getImporter() {
+        switch (entity) {
+        case AddContactCommand.ENTITY_WORD:
+            return CsvAddressBookImporter.forPersons();
+        case AddJobCommand.ENTITY_WORD:
+            return CsvAddressBookImporter.forJobs();
+        case AddCompanyCommand.ENTITY_WORD:
+            return CsvAddressBookImporter.forCompanies();
+        default:
+            throw new IllegalStateException("Unknown entity: " + entity);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return entity.equals(otherImportCommand.entity)
+                && csvFile.equals(otherImportCommand.csvFile);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("entity", entity)
+                .add("csvFile", csvFile)
+                .toString();
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Runs the commands in a script file as one batch.
+ * <p>
+ * The commands are run on a copy of the model, starting with every list shown in full, and the address book of the
+ * model is replaced by that of the copy once at the end. So however many commands the script has, the address book is
+ * saved once, and the lists shown are refreshed once, with their filters left as they were. The script stops at the
+ * first command that fails. The commands before it are kept, unless the script is rolled back on failure, in which
+ * case the model is left as it was. Work that a command leaves running in the background, such as an export, is
+ * waited for, so that the script also stops if that work fails.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String ROLLBACK_FLAG = "--rollback";
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one per line, and saves the data once at the end. "
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped. "
+            + "The script stops at the first command that fails; with " + ROLLBACK_FLAG + ", the commands before it "
+            + "are undone as well.\n"
+            + "Parameters: [" + ROLLBACK_FLAG + "] FILE\n"
+            + "Example: " + COMMAND_WORD + " " + ROLLBACK_FLAG + " data/import.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s in %3$d ms (%4$s commands/sec)";
+    public static final String MESSAGE_CANNOT_READ = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d of %2$s failed: %3$s\n%4$s";
+    public static final String MESSAGE_KEPT = "The %1$d commands before it were kept.";
+    public static final String MESSAGE_ROLLED_BACK = "No changes were made.";
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts.";
+
+    private final Path scriptPath;
+    private final boolean isRolledBackOnFailure;
+    private final Parser<Command> commandParser;
+
+    /**
+     * Creates a command that runs the script at {@code scriptPath}, parsing each line with {@code commandParser}.
+     */
+    public RunCommand(Path scriptPath, boolean isRolledBackOnFailure, Parser<Command> commandParser) {
+        requireNonNull(scriptPath);
+        requireNonNull(commandParser);
+        this.scriptPath = scriptPath;
+        this.isRolledBackOnFailure = isRolledBackOnFailure;
+        this.commandParser = commandParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, scriptPath, e.getMessage()), e);
+        }
+
+        long startTime = System.nanoTime();
+        Model batchModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        long initialModificationCount = batchModel.getAddressBookModificationCount();
+        int executedCount = 0;
+        String failureMessage = null;
+        for (int i = 0; i < lines.size() && failureMessage == null; i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                execute(commandParser.parse(line), batchModel);
+                executedCount++;
+            } catch (ParseException | CommandException e) {
+                failureMessage = String.format(MESSAGE_COMMAND_FAILED, i + 1, scriptPath, e.getMessage(),
+                        isRolledBackOnFailure ? MESSAGE_ROLLED_BACK : String.format(MESSAGE_KEPT, executedCount));
+            }
+        }
+
+        boolean isApplied = failureMessage == null || !isRolledBackOnFailure;
+        if (isApplied && batchModel.getAddressBookModificationCount() != initialModificationCount) {
+            model.setAddressBook(batchModel.getAddressBook());
+        }
+        if (failureMessage != null) {
+            throw new CommandException(failureMessage);
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        double commandsPerSecond = executedCount * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, executedCount, scriptPath,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), String.format(Locale.ROOT, "%.0f", commandsPerSecond)));
+    }
+
+    private static void execute(Command command, Model batchModel) throws CommandException {
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_SCRIPT);
+        }
+        Optional<CompletionStage<String>> pendingFeedback = command.execute(batchModel).getPendingFeedback();
+        if (pendingFeedback.isEmpty()) {
+            return;
+        }
+        try {
+            pendingFeedback.get().toCompletableFuture().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof CommandException ? (CommandException) cause
+                    : new CommandException(cause.getMessage(), cause);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath)
+                && isRolledBackOnFailure == otherRunCommand.isRolledBackOnFailure;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("isRolledBackOnFailure", isRolledBackOnFailure)
+                .toString();
+    }
+}
@@ -1,23 +1,25 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.ScreenCommand;
 import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnmatchCommand;
@@ -29,77 +31,102 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
     /**
-     * Used for initial separation of command word and args.
+     * The commands of the app. Parsers keep no state, so one registry is shared by all parsers of the app.
+     * Commands that delete data or close the app must be typed in full.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final CommandRegistry DEFAULT_REGISTRY = new CommandRegistry()
+            .register(AddCommand.COMMAND_WORD, new AddCommandParser())
+            .register(EditCommand.COMMAND_WORD, new EditCommandParser())
+            .register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser(), false)
+            .register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand(), false)
+            .register(FindCommand.COMMAND_WORD, new FindCommandParser())
+            .register(ListCommand.COMMAND_WORD, new ListCommandParser())
+            .register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand(), false)
+            .register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand())
+            .register(ScreenCommand.COMMAND_WORD, new ScreenCommandParser())
+            .register(MatchCommand.COMMAND_WORD, new MatchCommandParser())
+            .register(ViewCompanyCommand.COMMAND_WORD, new ViewCompanyCommandParser())
+            .register(UnmatchCommand.COMMAND_WORD, new UnmatchCommandParser())
+            .register(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand())
+            .register(RunCommand.COMMAND_WORD, new RunCommandParser())
+            .register(ImportCommand.COMMAND_WORD, new ImportCommandParser())
+            .register(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+
+    private final CommandRegistry registry;
+
+    /**
+     * Creates a parser of the commands of the app.
+     */
+    public AddressBookParser() {
+        this(DEFAULT_REGISTRY);
+    }
+
+    /**
+     * Creates a parser of the commands in {@code registry}.
+     */
+    public AddressBookParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the registry of the commands that this parser parses, e.g. to complete command words.
+     */
+    public CommandRegistry getCommandRegistry() {
+        return registry;
+    }
 
     /**
      * Parses user input into command for execution.
+     * The command word is the input up to the first whitespace, and may be shortened to any start of it that no
+     * other command word starts with.
      *
      * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !StringUtil.isRegexWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (commandWordEnd == 0 || containsLineTerminator(trimmedInput, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String normalizedCommandWord = matcher.group("commandWord").toLowerCase();
-        final String arguments = matcher.group("arguments");
+        final String normalizedCommandWord = trimmedInput.substring(0, commandWordEnd).toLowerCase();
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + normalizedCommandWord + "; Arguments: " + arguments);
 
-        switch (normalizedCommandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case ScreenCommand.COMMAND_WORD:
-            return new ScreenCommandParser().parse(arguments);
-
-        case MatchCommand.COMMAND_WORD:
-            return new MatchCommandParser().parse(arguments);
-
-        case ViewCompanyCommand.COMMAND_WORD:
-            return new ViewCompanyCommandParser().parse(arguments);
-
-        case UnmatchCommand.COMMAND_WORD:
-            return new UnmatchCommandParser().parse(arguments);
-
-        case StatsCommand.COMMAND_WORD:
-            return new StatsCommand();
-        default:
+        Parser<? extends Command> parser;
+        try {
+            parser = registry.getParser(normalizedCommandWord);
+        } catch (ParseException pe) {
             logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            throw pe;
+        }
+        return parser.parse(arguments);
+    }
+
+    /**
+     * Returns true if {@code input} has a line break from {@code fromIndex} on, as arguments cannot span lines.
+     */
+    private static boolean containsLineTerminator(String input, int fromIndex) {
+        for (int i = fromIndex; i < input.length(); i++) {
+            if (StringUtil.isLineTerminator(input.charAt(i))) {
+                return true;
+            }
         }
+        return false;
     }
 
 }
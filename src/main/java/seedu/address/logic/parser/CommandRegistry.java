@@ -0,0 +1,130 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * <p>
+ * Parsers are registered once and reused for every command, so they must not keep any state between calls. A command
+ * word is looked up in a hash map, so the cost of finding its parser does not grow with the number of commands.
+ * A word that is not registered may also stand for the one registered command word that it is the start of, unless
+ * that command word was registered as one that must be typed in full, such as the words of commands that delete data.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_INVALID_COMMAND_WORD = "Command words should be lower case and not blank";
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word '%1$s' is already registered";
+    public static final String MESSAGE_FULL_COMMAND_WORD_REQUIRED = "Command '%1$s' must be typed in full";
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+    private final NavigableMap<String, Parser<? extends Command>> sortedParsers = new TreeMap<>();
+    private final Set<String> fullCommandWords = new HashSet<>();
+
+    /**
+     * Registers {@code parser} as the parser of the commands with {@code commandWord}, which may be abbreviated.
+     *
+     * @return this registry, so that registrations can be chained.
+     * @throws IllegalArgumentException if {@code commandWord} is not lower case, blank or already registered.
+     */
+    public CommandRegistry register(String commandWord, Parser<? extends Command> parser) {
+        return register(commandWord, parser, true);
+    }
+
+    /**
+     * Registers {@code parser} as the parser of the commands with {@code commandWord}. Unless
+     * {@code allowsAbbreviation}, the command word must be typed in full, so that a short word cannot run the command
+     * by accident.
+     *
+     * @return this registry, so that registrations can be chained.
+     * @throws IllegalArgumentException if {@code commandWord} is not lower case, blank or already registered.
+     */
+    public CommandRegistry register(String commandWord, Parser<? extends Command> parser,
+            boolean allowsAbbreviation) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(!commandWord.isBlank() && commandWord.equals(commandWord.toLowerCase(Locale.ROOT))
+                && commandWord.chars().noneMatch(Character::isWhitespace), MESSAGE_INVALID_COMMAND_WORD);
+        checkArgument(!parsers.containsKey(commandWord), String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+
+        parsers.put(commandWord, parser);
+        sortedParsers.put(commandWord, parser);
+        if (!allowsAbbreviation) {
+            fullCommandWords.add(commandWord);
+        }
+        return this;
+    }
+
+    /**
+     * Returns true if {@code commandWord} is registered, without resolving it as the start of a command word.
+     */
+    public boolean hasCommandWord(String commandWord) {
+        requireNonNull(commandWord);
+        return parsers.containsKey(commandWord);
+    }
+
+    /**
+     * Returns all registered command words, in alphabetical order.
+     */
+    public List<String> getCommandWords() {
+        return new ArrayList<>(sortedParsers.keySet());
+    }
+
+    /**
+     * Returns the registered command words that start with {@code start}, in alphabetical order.
+     */
+    public List<String> getCommandWordsStartingWith(String start) {
+        requireNonNull(start);
+        return new ArrayList<>(startingWith(start).keySet());
+    }
+
+    /**
+     * Returns the parser of the commands with {@code commandWord}. If {@code commandWord} is not registered, it is
+     * taken as the start of a command word, and the parser of the only command word that starts with it is returned.
+     * Command words that must be typed in full still make their starts ambiguous, but are never returned for them.
+     *
+     * @throws ParseException if no command word, or more than one, starts with {@code commandWord}, or the only one
+     *     must be typed in full.
+     */
+    public Parser<? extends Command> getParser(String commandWord) throws ParseException {
+        requireNonNull(commandWord);
+        Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser != null) {
+            return parser;
+        }
+
+        NavigableMap<String, Parser<? extends Command>> candidates = startingWith(commandWord);
+        if (commandWord.isEmpty() || candidates.isEmpty()) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        if (candidates.size() > 1) {
+            throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, commandWord,
+                    String.join(", ", candidates.keySet())));
+        }
+        String candidate = candidates.firstKey();
+        if (fullCommandWords.contains(candidate)) {
+            throw new ParseException(String.format(MESSAGE_FULL_COMMAND_WORD_REQUIRED, candidate));
+        }
+        return candidates.firstEntry().getValue();
+    }
+
+    private NavigableMap<String, Parser<? extends Command>> startingWith(String start) {
+        // Every string that starts with start sorts from start up to start followed by the largest char.
+        return sortedParsers.subMap(start, true, start + Character.MAX_VALUE, false);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCompanyCommand;
+import seedu.address.logic.commands.AddContactCommand;
+import seedu.address.logic.commands.AddJobCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.RecordExporter;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FORMAT = "The file to export to should end with %1$s or %2$s";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * The format of the file is given by its extension.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String[] splitArgs = args.trim().split("\\s+", 2);
+        if (splitArgs.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        String entity = ParserUtil.parseEntity(splitArgs[0]);
+        switch (entity) {
+        case AddContactCommand.ENTITY_WORD, AddJobCommand.ENTITY_WORD, AddCompanyCommand.ENTITY_WORD:
+            break;
+        default:
+            String exceptionMessage = String.format(Messages.MESSAGE_OPERATION_NOT_ALLOWED,
+                    ExportCommand.COMMAND_WORD, entity);
+            throw new ParseException(exceptionMessage);
+        }
+
+        boolean isAll = splitArgs[1].startsWith(ExportCommand.ALL_FLAG + " ");
+        String pathString = isAll ? splitArgs[1].substring(ExportCommand.ALL_FLAG.length()).trim() : splitArgs[1];
+        if (pathString.equals(ExportCommand.ALL_FLAG)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path file;
+        try {
+            file = Paths.get(pathString);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), ipe);
+        }
+        RecordExporter.Format format = RecordExporter.Format.of(file).orElseThrow(() -> new ParseException(
+                String.format(MESSAGE_UNKNOWN_FORMAT, RecordExporter.Format.CSV.getFileExtension(),
+                        RecordExporter.Format.JSON_LINES.getFileExtension())));
+        return new ExportCommand(entity, isAll, file, format);
+    }
+}
@@ -4,36 +4,70 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindContactQueryCommand;
+import seedu.address.logic.commands.FindJobCommand;
+import seedu.address.logic.commands.FindJobQueryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.job.JobConditions;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonConditions;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand, FindJobCommand or query command object
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand, FindJobCommand or query command object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         requireNonNull(args);
-        String entity = args.trim().split(" ")[0].toLowerCase();
-        String findArgs = args.replace(entity, "");
+        String[] entityAndKeywords = args.trim().split("\\s+", 2);
+        if (entityAndKeywords.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        String entity = entityAndKeywords[0].toLowerCase();
+        String trimmedArgs = entityAndKeywords[1];
+        String[] flagAndQuery = trimmedArgs.split("\\s+", 2);
+        boolean isQuery = flagAndQuery[0].equals(FindCommand.QUERY_FLAG);
+        String query = isQuery && flagAndQuery.length == 2 ? flagAndQuery[1] : "";
+        boolean isExplained = query.equals(FindCommand.EXPLAIN_FLAG)
+                || query.matches(".*\\s" + FindCommand.EXPLAIN_FLAG);
+        if (isExplained) {
+            query = query.substring(0, query.length() - FindCommand.EXPLAIN_FLAG.length()).trim();
+        }
+        if (isQuery && query.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
         switch (entity) {
-        case "contact":
-            String trimmedArgs = findArgs.trim();
-            if (trimmedArgs.isEmpty()) {
+        case FindJobCommand.ENTITY_WORD:
+            if (isQuery) {
+                return new FindJobQueryCommand(ParserUtil.parseConditions(query, JobConditions::of), isExplained);
+            }
+            return new FindJobCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+        case FindCommand.ENTITY_WORD:
+            if (isQuery) {
+                return new FindContactQueryCommand(ParserUtil.parseConditions(query, PersonConditions::of),
+                        isExplained);
+            }
+            List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+            boolean isFuzzy = nameKeywords.get(0).equals(FindCommand.FUZZY_FLAG);
+            if (isFuzzy) {
+                nameKeywords = nameKeywords.subList(1, nameKeywords.size());
+            }
+            if (nameKeywords.isEmpty()) {
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
             }
 
-            String[] nameKeywords = trimmedArgs.split("\\s+");
-
-            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords), isFuzzy);
         default:
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
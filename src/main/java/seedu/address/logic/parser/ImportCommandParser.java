@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCompanyCommand;
+import seedu.address.logic.commands.AddContactCommand;
+import seedu.address.logic.commands.AddJobCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * The file is everything after the entity, so that it may contain spaces.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String[] splitArgs = args.trim().split("\\s+", 2);
+        if (splitArgs.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        String entity = ParserUtil.parseEntity(splitArgs[0]);
+        switch (entity) {
+        case AddContactCommand.ENTITY_WORD, AddJobCommand.ENTITY_WORD, AddCompanyCommand.ENTITY_WORD:
+            break;
+        default:
+            String exceptionMessage = String.format(Messages.MESSAGE_OPERATION_NOT_ALLOWED,
+                    ImportCommand.COMMAND_WORD, entity);
+            throw new ParseException(exceptionMessage);
+        }
+
+        Path csvFile;
+        try {
+            csvFile = Paths.get(splitArgs[1]);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE), ipe);
+        }
+        return new ImportCommand(entity, csvFile);
+    }
+}
@@ -2,9 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -20,6 +25,8 @@ import seedu.address.model.job.JobSalary;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Role;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.Condition.Operator;
 import seedu.address.model.skill.Skill;
 import seedu.address.model.tag.Tag;
 
@@ -28,6 +35,14 @@ import seedu.address.model.tag.Tag;
  */
 public class ParserUtil {
 
+    public static final String MESSAGE_INVALID_CONDITION = "Invalid condition '%1$s'. Conditions should be of the "
+            + "form FIELD=VALUE, FIELD~WORD, FIELD<NUMBER, FIELD<=NUMBER, FIELD>NUMBER or FIELD>=NUMBER";
+
+    private static final Pattern CONDITION_FORMAT =
+            Pattern.compile("(?<field>\\p{Alpha}+)\\s*(?<operator><=|>=|<|>|=|~)\\s*(?<value>\\S.*)");
+    // Only an "and" followed by a field and an operator separates conditions, so values may contain "and" too.
+    private static final String CONDITION_SEPARATOR = "\\s+(?i:and)\\s+(?=\\p{Alpha}+\\s*[<>=~])";
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -269,6 +284,35 @@ public class ParserUtil {
         return skillSet;
     }
 
+    /**
+     * Parses a {@code String query} of conditions separated by {@code and} into the conditions created by
+     * {@code factory}. Field names are case-insensitive. An {@code and} that is not followed by a field and an
+     * operator is part of the value before it, as in {@code company=Johnson and Johnson}.
+     *
+     * @throws ParseException if a condition is not of the form FIELD OPERATOR VALUE, or is not supported by
+     *     {@code factory}.
+     */
+    public static <T> List<Condition<T>> parseConditions(String query, Condition.Factory<T> factory)
+            throws ParseException {
+        requireNonNull(query);
+        requireNonNull(factory);
+        List<Condition<T>> conditions = new ArrayList<>();
+        for (String condition : query.trim().split(CONDITION_SEPARATOR)) {
+            Matcher matcher = CONDITION_FORMAT.matcher(condition);
+            if (!matcher.matches()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_CONDITION, condition));
+            }
+            Operator operator = Operator.of(matcher.group("operator")).orElseThrow();
+            try {
+                conditions.add(factory.create(matcher.group("field").toLowerCase(Locale.ROOT), operator,
+                        matcher.group("value")));
+            } catch (IllegalArgumentException iae) {
+                throw new ParseException(iae.getMessage(), iae);
+            }
+        }
+        return conditions;
+    }
+
     /**
      * Parses a {@code String date} into a {@code BillingDate}.
      * Leading and trailing whitespaces will be trimmed.
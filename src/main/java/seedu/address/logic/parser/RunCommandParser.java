@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * The commands in the script are parsed with the commands of the app when the script is run.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        boolean isRolledBackOnFailure = trimmedArgs.startsWith(RunCommand.ROLLBACK_FLAG + " ");
+        String pathString = isRolledBackOnFailure
+                ? trimmedArgs.substring(RunCommand.ROLLBACK_FLAG.length()).trim()
+                : trimmedArgs;
+        if (pathString.isEmpty() || pathString.equals(RunCommand.ROLLBACK_FLAG)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        Path scriptPath;
+        try {
+            scriptPath = Paths.get(pathString);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), ipe);
+        }
+        return new RunCommand(scriptPath, isRolledBackOnFailure, new AddressBookParser()::parseCommand);
+    }
+}
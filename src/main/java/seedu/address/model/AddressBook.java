@@ -2,10 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -14,7 +17,6 @@ import seedu.address.model.company.Company;
 import seedu.address.model.company.UniqueCompanyList;
 import seedu.address.model.company.exceptions.CompanyNotFoundException;
 import seedu.address.model.job.Job;
-import seedu.address.model.job.JobCompany;
 import seedu.address.model.job.UniqueJobList;
 import seedu.address.model.job.exceptions.JobNotFoundException;
 import seedu.address.model.person.Email;
@@ -22,11 +24,16 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Role;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.model.skill.Skill;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * The relationships between companies, jobs and persons are kept in hash indexes alongside the lists, so that
+ * referential checks and cascading deletions only touch the records that are affected.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
@@ -34,6 +41,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueJobList jobs;
     private final UniqueCompanyList companies;
 
+    // Company names are compared case-insensitively, so the company indexes are keyed by the lower case name.
+    private final Set<String> companyKeys = new HashSet<>();
+    private final Map<String, List<Job>> jobsByCompany = new HashMap<>();
+    private final Map<String, Job> jobsByIdentifier = new HashMap<>();
+    private final Map<String, Set<Person>> personsByJob = new HashMap<>();
+
 
     // The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
     // between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -65,16 +78,23 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        personsByJob.clear();
+        this.persons.forEach(this::indexMatch);
     }
 
     /** Replaces the contents of the job list with {@code jobs}. */
     public void setJobs(List<Job> jobs) {
         this.jobs.setJobs(jobs);
+        jobsByCompany.clear();
+        jobsByIdentifier.clear();
+        this.jobs.forEach(this::indexJob);
     }
 
     /** Replaces the contents of the company list with {@code companies}. */
     public void setCompanies(List<Company> companies) {
         this.companies.setCompanies(companies);
+        companyKeys.clear();
+        this.companies.forEach(company -> companyKeys.add(company.getName().toCaseInsensitiveKey()));
     }
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
@@ -97,6 +117,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns true if a person other than {@code target} has the same identity as {@code editedPerson}.
+     */
+    public boolean hasOtherPerson(Person target, Person editedPerson) {
+        return persons.containsOther(target, editedPerson);
+    }
+
     /**
      * Returns true if a job that has the same name and company as {@code job} exists in the address book.
      */
@@ -121,17 +148,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * If a person is matched, the existence of the job is checked here.
      */
     public void addPerson(Person p) {
-        if (p.isMatchPresent()) {
-            String jobIdentifier = p.getMatch().get();
-            boolean jobExists = StreamSupport
-                    .stream(jobs.spliterator(), false)
-                    .anyMatch(job -> job.getIdentifier().equals(jobIdentifier));
-            if (!jobExists) {
-                throw new JobNotFoundException(p.getMatch().get());
-            }
+        if (p.isMatchPresent() && !jobsByIdentifier.containsKey(p.getMatch().get())) {
+            throw new JobNotFoundException(p.getMatch().get());
         }
 
         persons.add(p);
+        indexMatch(p);
     }
 
     /**
@@ -139,14 +161,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The existence of the company referenced by the job creation is checked here.
      */
     public void addJob(Job j) {
-        JobCompany c = j.getCompany();
-        boolean companyExists = StreamSupport
-                .stream(companies.spliterator(), false)
-                .anyMatch(x -> c.matchesCompanyName(x.getName()));
-        if (!companyExists) {
+        if (!companyKeys.contains(j.getCompany().toCaseInsensitiveKey())) {
             throw new CompanyNotFoundException();
         }
         jobs.add(j);
+        indexJob(j);
     }
 
     /**
@@ -156,6 +175,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addCompany(Company c) {
         companies.add(c);
+        companyKeys.add(c.getName().toCaseInsensitiveKey());
     }
 
     /**
@@ -167,6 +187,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        unindexMatch(target);
+        indexMatch(editedPerson);
     }
 
     /**
@@ -177,6 +199,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setJob(Job target, Job editedJob) {
         requireNonNull(editedJob);
         jobs.setJob(target, editedJob);
+        unindexJob(target);
+        indexJob(editedJob);
     }
 
     /**
@@ -189,6 +213,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedCompany);
 
         companies.setCompany(target, editedCompany);
+        companyKeys.remove(target.getName().toCaseInsensitiveKey());
+        companyKeys.add(editedCompany.getName().toCaseInsensitiveKey());
     }
 
     /**
@@ -197,6 +223,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        unindexMatch(key);
     }
 
     /**
@@ -204,12 +231,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeJob(Job key) {
-        String jobIdentifier = key.getIdentifier();
-        for (Person person: persons) {
-            if (!person.isMatchPresent()) {
-                continue;
-            }
-            if (person.getMatch().get().equals(jobIdentifier)) {
+        Set<Person> matchedPersons = personsByJob.remove(key.getIdentifier());
+        if (matchedPersons != null) {
+            for (Person person : matchedPersons) {
                 Name name = person.getName();
                 Phone phone = person.getPhone();
                 Email email = person.getEmail();
@@ -220,6 +244,7 @@ public class AddressBook implements ReadOnlyAddressBook {
             }
         }
         jobs.remove(key);
+        unindexJob(key);
     }
 
     /**
@@ -230,15 +255,120 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeCompany(Company key) {
         companies.remove(key);
-        Stream<Job> jobsToRemove = StreamSupport
-                .stream(jobs.spliterator(), false)
-                .filter(x -> x.getCompany().matchesCompanyName(key.getName()));
-        // DO NOT CONVERT BELOW TO STREAM, IT BREAKS THE JOB DELETION!!!
-        for (Job j : jobsToRemove.toList()) {
+        String companyKey = key.getName().toCaseInsensitiveKey();
+        companyKeys.remove(companyKey);
+        // Copied, as removing each job also removes it from the index being iterated over.
+        List<Job> jobsToRemove = new ArrayList<>(jobsByCompany.getOrDefault(companyKey, List.of()));
+        for (Job j : jobsToRemove) {
             removeJob(j);
         }
     }
 
+    /**
+     * Returns true if {@code person} is matched to a job whose company name is exactly {@code companyName}.
+     */
+    public boolean isMatchedToCompany(Person person, Name companyName) {
+        requireNonNull(companyName);
+        if (!person.isMatchPresent()) {
+            return false;
+        }
+        Job matchedJob = jobsByIdentifier.get(person.getMatch().get());
+        return matchedJob != null && matchedJob.getCompany().fullName.equals(companyName.fullName);
+    }
+
+    /**
+     * Returns a predicate that tests whether a person in the address book has a name containing any of
+     * {@code keywords}, ignoring case, using the name index of the person list.
+     *
+     * @see UniquePersonList#getNameContainsKeywordsPredicate(List)
+     */
+    public Predicate<Person> getNameContainsKeywordsPredicate(List<String> keywords) {
+        return persons.getNameContainsKeywordsPredicate(keywords);
+    }
+
+    /**
+     * Returns the persons in the address book with names similar to {@code keywords}, allowing for typos, with how
+     * similar their names are, using the name index of the person list.
+     *
+     * @see UniquePersonList#findSimilarNames(List)
+     */
+    public Map<Person, Double> findSimilarNames(List<String> keywords) {
+        return persons.findSimilarNames(keywords);
+    }
+
+    /**
+     * Returns the at most {@code limit} jobs in the address book most relevant to {@code keywords}, with their
+     * relevance.
+     *
+     * @see UniqueJobList#findRelevantJobs(List, int)
+     */
+    public Map<Job, Double> findRelevantJobs(List<String> keywords, int limit) {
+        return jobs.findRelevantJobs(keywords, limit);
+    }
+
+    /**
+     * Returns the plan for finding the persons in the address book that meet all of {@code conditions}.
+     *
+     * @see UniquePersonList#planQuery(List)
+     */
+    public QueryPlan<Person> planPersonQuery(List<Condition<Person>> conditions) {
+        return persons.planQuery(conditions);
+    }
+
+    /**
+     * Returns the plan for finding the jobs in the address book that meet all of {@code conditions}.
+     *
+     * @see UniqueJobList#planQuery(List)
+     */
+    public QueryPlan<Job> planJobQuery(List<Condition<Job>> conditions) {
+        return jobs.planQuery(conditions);
+    }
+
+    /**
+     * Returns the number of changes made to this address book so far.
+     * The count only ever increases, so an unchanged count means that the address book still holds the same data.
+     */
+    public long getModificationCount() {
+        return persons.getModificationCount() + jobs.getModificationCount() + companies.getModificationCount();
+    }
+
+    //// relationship index maintenance
+
+    private void indexJob(Job job) {
+        jobsByCompany.computeIfAbsent(job.getCompany().toCaseInsensitiveKey(), unused -> new ArrayList<>())
+                .add(job);
+        jobsByIdentifier.put(job.getIdentifier(), job);
+    }
+
+    private void unindexJob(Job job) {
+        String companyKey = job.getCompany().toCaseInsensitiveKey();
+        List<Job> companyJobs = jobsByCompany.get(companyKey);
+        if (companyJobs != null) {
+            companyJobs.remove(job);
+            if (companyJobs.isEmpty()) {
+                jobsByCompany.remove(companyKey);
+            }
+        }
+        jobsByIdentifier.remove(job.getIdentifier());
+    }
+
+    private void indexMatch(Person person) {
+        person.getMatch().ifPresent(jobIdentifier ->
+                personsByJob.computeIfAbsent(jobIdentifier, unused -> new HashSet<>()).add(person));
+    }
+
+    private void unindexMatch(Person person) {
+        person.getMatch().ifPresent(jobIdentifier -> {
+            Set<Person> matchedPersons = personsByJob.get(jobIdentifier);
+            if (matchedPersons != null) {
+                matchedPersons.remove(person);
+                if (matchedPersons.isEmpty()) {
+                    personsByJob.remove(jobIdentifier);
+                }
+            }
+        });
+    }
+
     //// util methods
 
     @Override
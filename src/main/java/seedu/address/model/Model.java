@@ -1,13 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.company.Company;
 import seedu.address.model.job.Job;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * The API of the Model component.
@@ -51,6 +55,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a count that increases every time the address book is modified.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
@@ -61,6 +70,11 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns true if a person other than {@code target} has the same identity as {@code editedPerson}.
+     */
+    boolean hasOtherPerson(Person target, Person editedPerson);
+
     /**
      * Returns true if a job with the same identity as {@code job} exists in the address book.
      */
@@ -150,9 +164,52 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons that pass {@code predicate}.
+     * The keywords of the predicate are looked up in the name index of the address book, instead of being matched
+     * against every name.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filtered person list to show the persons with names similar to {@code keywords}, allowing for typos,
+     * with the most similar names first. The persons found stay the same until the filter is updated again, which also
+     * shows the persons in their usual order again.
+     *
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredPersonListBySimilarName(List<String> keywords);
+
     /** Updates the filter of the filtered job list to filter by the given {@code predicate}. */
     void updateFilteredJobList(Predicate<Job> predicate);
 
+    /**
+     * Updates the filtered job list to show the at most {@code limit} jobs most relevant to {@code keywords}, with the
+     * most relevant first. The jobs found stay the same until the filter is updated again, which also shows the jobs
+     * in their usual order again.
+     *
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredJobListByRelevance(List<String> keywords, int limit);
+
+    /**
+     * Updates the filtered person list to show the persons meeting all of {@code conditions}, and returns the plan
+     * used to find them. Persons edited afterwards are shown if they meet the conditions, and hidden if not.
+     *
+     * @throws NullPointerException if {@code conditions} is null.
+     */
+    QueryPlan<Person> updateFilteredPersonListByQuery(List<Condition<Person>> conditions);
+
+    /**
+     * Updates the filtered job list to show the jobs meeting all of {@code conditions}, and returns the plan used to
+     * find them. Jobs edited afterwards are shown if they meet the conditions, and hidden if not.
+     *
+     * @throws NullPointerException if {@code conditions} is null.
+     */
+    QueryPlan<Job> updateFilteredJobListByQuery(List<Condition<Job>> conditions);
+
     /** Updates the filter of the filtered company list to filter by the given {@code predicate}. */
     void updateFilteredCompanyList(Predicate<Company> predicate);
 
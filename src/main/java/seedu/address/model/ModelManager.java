@@ -4,17 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.common.Name;
 import seedu.address.model.company.Company;
 import seedu.address.model.job.Job;
 import seedu.address.model.job.JobCompany;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,7 +33,9 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Job> filteredJobs;
+    private final SortedList<Job> sortedJobs;
     private final FilteredList<Company> filteredCompanies;
 
     /**
@@ -34,12 +44,16 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with talent connect: " + addressBook + " and user prefs " + userPrefs);
+        // Only built if logged, as the whole address book is printed.
+        logger.fine(() -> "Initializing with talent connect: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        // Kept in the order of the address book, unless the persons are ranked by a search.
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredJobs = new FilteredList<>(this.addressBook.getJobList());
+        sortedJobs = new SortedList<>(filteredJobs);
         filteredCompanies = new FilteredList<>(this.addressBook.getCompanyList());
     }
 
@@ -89,6 +103,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
@@ -100,6 +119,12 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public boolean hasOtherPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return addressBook.hasOtherPerson(target, editedPerson);
+    }
+
     /**
      * Returns true if the same company is in the address book.
      *
@@ -196,12 +221,12 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public ObservableList<Job> getFilteredJobList() {
-        return filteredJobs;
+        return sortedJobs;
     }
 
     /**
@@ -217,15 +242,58 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        sortedPersons.setComparator(null);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        sortedPersons.setComparator(null);
+        filteredPersons.setPredicate(addressBook.getNameContainsKeywordsPredicate(predicate.getKeywords()));
+    }
+
+    @Override
+    public void updateFilteredPersonListBySimilarName(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Person, Double> similarity = addressBook.findSimilarNames(keywords);
+        filteredPersons.setPredicate(similarity::containsKey);
+        sortedPersons.setComparator(Comparator.comparingDouble(similarity::get).reversed());
+    }
+
     @Override
     public void updateFilteredJobList(Predicate<Job> predicate) {
         requireNonNull(predicate);
+        sortedJobs.setComparator(null);
         filteredJobs.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredJobListByRelevance(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        Map<Job, Double> relevance = addressBook.findRelevantJobs(keywords, limit);
+        filteredJobs.setPredicate(relevance::containsKey);
+        sortedJobs.setComparator(Comparator.comparingDouble(relevance::get).reversed());
+    }
+
+    @Override
+    public QueryPlan<Person> updateFilteredPersonListByQuery(List<Condition<Person>> conditions) {
+        requireNonNull(conditions);
+        QueryPlan<Person> plan = addressBook.planPersonQuery(conditions);
+        sortedPersons.setComparator(null);
+        plan.applyTo(filteredPersons);
+        return plan;
+    }
+
+    @Override
+    public QueryPlan<Job> updateFilteredJobListByQuery(List<Condition<Job>> conditions) {
+        requireNonNull(conditions);
+        QueryPlan<Job> plan = addressBook.planJobQuery(conditions);
+        sortedJobs.setComparator(null);
+        plan.applyTo(filteredJobs);
+        return plan;
+    }
+
     /**
      * Updates the filtered company list with the given predicate.
      *
@@ -250,8 +318,8 @@ public class ModelManager implements Model {
 
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook) && userPrefs.equals(otherModelManager.userPrefs)
-               && filteredPersons.equals(otherModelManager.filteredPersons)
-               && filteredJobs.equals(otherModelManager.filteredJobs)
+               && sortedPersons.equals(otherModelManager.sortedPersons)
+               && sortedJobs.equals(otherModelManager.sortedJobs)
                && filteredCompanies.equals(otherModelManager.filteredCompanies);
     }
 
@@ -261,8 +329,8 @@ public class ModelManager implements Model {
      * @return A predicate that returns {@code true} if the person is linked to the specified company.
      */
     public Predicate<Person> getPersonLinkedToCompanyPredicate(Company targetCompany) {
-        return person -> person.isMatchPresent()
-                && person.getMatch().get().startsWith(targetCompany.getName().toString() + "::");
+        Name companyName = targetCompany.getName();
+        return person -> addressBook.isMatchedToCompany(person, companyName);
     }
 
     /**
@@ -271,7 +339,8 @@ public class ModelManager implements Model {
      * @return A predicate that returns {@code true} if the job is linked to the specified company.
      */
     public Predicate<Job> getJobLinkedToCompanyPredicate(Company targetCompany) {
-        return job -> job.getCompany().equals(new JobCompany(targetCompany.getName().toString()));
+        JobCompany company = new JobCompany(targetCompany.getName().toString());
+        return job -> job.getCompany().equals(company);
     }
 
     /**
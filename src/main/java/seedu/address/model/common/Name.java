@@ -3,6 +3,10 @@ package seedu.address.model.common;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents an entity's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +22,9 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum},. -]*";
 
+    /** Characters other than letters and digits that may follow the first character, as in the regex. */
+    private static final String NAME_CHARACTERS = ",. -";
+
     public final String fullName;
 
     /**
@@ -26,11 +33,25 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    protected Name(String name, boolean isChecked) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} for a name that is already known to be valid, without validating it again.
+     * Used to restore data that was validated before it was stored.
+     */
+    public static Name ofValidated(String name) {
+        return new Name(name, false);
+    }
+
     /**
      * Returns true if both names have the same characters, ignoring case.
      * Used as a weaker notion of equality to enable case-insensitive checks.
@@ -39,11 +60,19 @@ public class Name {
         return fullName.equalsIgnoreCase(otherName.fullName);
     }
 
+    /**
+     * Returns a key that is equal for two names exactly when {@link #isSameName(Name)} holds for them.
+     * Used to look names up in hash based collections.
+     */
+    public String toCaseInsensitiveKey() {
+        return fullName.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericStart(test, NAME_CHARACTERS);
     }
 
     @Override
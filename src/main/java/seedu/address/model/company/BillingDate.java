@@ -3,6 +3,8 @@ package seedu.address.model.company;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents the billing date of a company in the address book.
  * Guarantees: can be cast to an integer from 1 to 28.
@@ -20,11 +22,25 @@ public class BillingDate {
      * @param date A valid billing date.
      */
     public BillingDate(String date) {
+        this(date, true);
+    }
+
+    private BillingDate(String date, boolean isChecked) {
         requireNonNull(date);
-        checkArgument(isValidBillingDate(date), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidBillingDate(date), MESSAGE_CONSTRAINTS);
+        }
         this.date = date;
     }
 
+    /**
+     * Returns a {@code BillingDate} for a billing date that is already known to be valid, without validating it again.
+     * Used to restore data that was validated before it was stored.
+     */
+    public static BillingDate ofValidated(String date) {
+        return new BillingDate(date, false);
+    }
+
     /**
      * Checks if the String is a valid billing date.
      *
@@ -33,12 +49,11 @@ public class BillingDate {
      */
     public static boolean isValidBillingDate(String test) {
         requireNonNull(test);
-        try {
-            int intTest = Integer.parseInt(test);
-            return test.matches(VALIDATION_REGEX) && ((intTest >= 1) && (intTest <= 28));
-        } catch (NumberFormatException e) {
+        if (!ValidationUtil.isDigits(test, 1, 2)) {
             return false;
         }
+        int intTest = Integer.parseInt(test);
+        return (intTest >= 1) && (intTest <= 28);
     }
 
     @Override
@@ -3,8 +3,10 @@ package seedu.address.model.company;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -15,11 +17,15 @@ import seedu.address.model.company.exceptions.DuplicateCompanyException;
  * A list of companies that enforces uniqueness between its elements and does not allow nulls.
  * A company is considered unique as deemed by the <Code>Company.isSameCompany(Company)</Code>.
  * Additions and deletions use this logic to determine what can be added and removed.
+ * The list keeps a hash set of the case-insensitive names of its companies, so that checking whether a company is in
+ * the list does not scan the whole list.
  */
 public class UniqueCompanyList implements Iterable<Company> {
     private final ObservableList<Company> internalList = FXCollections.observableArrayList();
     private final ObservableList<Company> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long modificationCount;
+    private final Set<String> nameKeys = new HashSet<>();
 
     /**
      * Returns true if the list contains a company.
@@ -29,7 +35,7 @@ public class UniqueCompanyList implements Iterable<Company> {
      */
     public boolean contains(Company toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCompany);
+        return nameKeys.contains(toCheck.getName().toCaseInsensitiveKey());
     }
 
     /**
@@ -44,6 +50,8 @@ public class UniqueCompanyList implements Iterable<Company> {
             throw new DuplicateCompanyException();
         }
         internalList.add(toAdd);
+        modificationCount++;
+        nameKeys.add(toAdd.getName().toCaseInsensitiveKey());
     }
 
     /**
@@ -65,6 +73,9 @@ public class UniqueCompanyList implements Iterable<Company> {
         }
 
         internalList.set(index, editedCompany);
+        modificationCount++;
+        nameKeys.remove(target.getName().toCaseInsensitiveKey());
+        nameKeys.add(editedCompany.getName().toCaseInsensitiveKey());
     }
 
     /**
@@ -77,6 +88,8 @@ public class UniqueCompanyList implements Iterable<Company> {
         if (!internalList.remove(toRemove)) {
             throw new CompanyNotFoundException();
         }
+        modificationCount++;
+        nameKeys.remove(toRemove.getName().toCaseInsensitiveKey());
     }
 
     /**
@@ -87,6 +100,8 @@ public class UniqueCompanyList implements Iterable<Company> {
     public void setCompanies(UniqueCompanyList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        modificationCount++;
+        rebuildNameKeys();
     }
 
     /**
@@ -101,6 +116,16 @@ public class UniqueCompanyList implements Iterable<Company> {
         }
 
         internalList.setAll(companies);
+        modificationCount++;
+        rebuildNameKeys();
+    }
+
+    /**
+     * Returns the number of changes made to this list so far.
+     * The count only ever increases, so an unchanged count means that the list still holds the same companies.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -140,6 +165,14 @@ public class UniqueCompanyList implements Iterable<Company> {
         return internalList.toString();
     }
 
+    /**
+     * Rebuilds the set of name keys from the current contents of the list.
+     */
+    private void rebuildNameKeys() {
+        nameKeys.clear();
+        internalList.forEach(company -> nameKeys.add(company.getName().toCaseInsensitiveKey()));
+    }
+
     /**
      * Returns true if all of the companies in the list are unique.
      *
@@ -147,11 +180,10 @@ public class UniqueCompanyList implements Iterable<Company> {
      * @return true if all companies in the list are unique.
      */
     private boolean companiesAreUnique(List<Company> companies) {
-        for (int i = 0; i < companies.size() - 1; i++) {
-            for (int j = i + 1; j < companies.size(); j++) {
-                if (companies.get(i).isSameCompany(companies.get(j))) {
-                    return false;
-                }
+        Set<String> names = new HashSet<>();
+        for (Company company : companies) {
+            if (!names.add(company.getName().toCaseInsensitiveKey())) {
+                return false;
             }
         }
         return true;
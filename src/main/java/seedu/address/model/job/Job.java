@@ -71,6 +71,13 @@ public class Job {
                 && otherJob.getCompany().isSameName(getCompany());
     }
 
+    /**
+     * Returns a key that is equal for two jobs exactly when {@link #isSameJob(Job)} holds for them.
+     */
+    public String getCaseInsensitiveIdentifier() {
+        return company.toCaseInsensitiveKey() + "::" + name.toCaseInsensitiveKey();
+    }
+
     /**
      * Returns a string that identify the Job object.
      */
@@ -17,6 +17,18 @@ public class JobCompany extends Name {
         super(companyName);
     }
 
+    private JobCompany(String companyName, boolean isChecked) {
+        super(companyName, isChecked);
+    }
+
+    /**
+     * Returns a {@code JobCompany} for a company name that is already known to be valid, without validating it again.
+     * Used to restore data that was validated before it was stored.
+     */
+    public static JobCompany ofValidated(String companyName) {
+        return new JobCompany(companyName, false);
+    }
+
     /**
      * Returns true if a given company exists.
      * Not used in constructor but used in ParserUtil to construct a JobCompany.
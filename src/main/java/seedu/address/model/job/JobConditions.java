@@ -0,0 +1,71 @@
+package seedu.address.model.job;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.Condition.Operator;
+
+/**
+ * Creates the conditions that jobs can be queried by.
+ */
+public class JobConditions {
+
+    public static final String FIELD_NAME = "name";
+    public static final String FIELD_COMPANY = "company";
+    public static final String FIELD_REQUIREMENT = "requirement";
+    public static final String FIELD_SALARY = "salary";
+
+    public static final String MESSAGE_CONSTRAINTS = "Jobs can be queried by name~WORD, company=COMPANY, "
+            + "requirement=REQUIREMENT and salary compared to a number with =, <, <=, > or >=";
+
+    // prevents instantiation
+    private JobConditions() {
+    }
+
+    /**
+     * Returns the condition that {@code field} of a job compares with {@code value} by {@code operator}.
+     * Text is compared ignoring case, and a word must be a full word of the field.
+     *
+     * @throws IllegalArgumentException if jobs cannot be queried that way.
+     */
+    public static Condition<Job> of(String field, Operator operator, String value) {
+        requireAllNonNull(field, operator, value);
+        checkArgument(!value.isEmpty(), MESSAGE_CONSTRAINTS);
+        if (field.equals(FIELD_SALARY)) {
+            checkArgument(operator != Operator.CONTAINS && JobSalary.isValidSalary(value), MESSAGE_CONSTRAINTS);
+            return ofSalary(operator, value);
+        }
+
+        switch (field + operator.getSymbol()) {
+        case FIELD_NAME + "~":
+            checkArgument(value.split("\\s+").length == 1, MESSAGE_CONSTRAINTS);
+            return new Condition<>(field, operator, value,
+                    job -> StringUtil.containsWordIgnoreCase(job.getName().fullName, value));
+        case FIELD_COMPANY + "=":
+            return new Condition<>(field, operator, value, job -> job.getCompany().fullName.equalsIgnoreCase(value));
+        case FIELD_REQUIREMENT + "=":
+            return new Condition<>(field, operator, value,
+                    job -> job.getRequirements().stream().anyMatch(tag -> tag.tagName.equalsIgnoreCase(value)));
+        default:
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static Condition<Job> ofSalary(Operator operator, String value) {
+        int salary = Integer.parseInt(value);
+        switch (operator) {
+        case AT_MOST:
+            return new Condition<>(FIELD_SALARY, operator, value, job -> job.getSalary().value <= salary);
+        case AT_LEAST:
+            return new Condition<>(FIELD_SALARY, operator, value, job -> job.getSalary().value >= salary);
+        case LESS:
+            return new Condition<>(FIELD_SALARY, operator, value, job -> job.getSalary().value < salary);
+        case GREATER:
+            return new Condition<>(FIELD_SALARY, operator, value, job -> job.getSalary().value > salary);
+        default:
+            return new Condition<>(FIELD_SALARY, operator, value, job -> job.getSalary().value == salary);
+        }
+    }
+}
@@ -19,11 +19,25 @@ public class JobDescription {
      * @param description The details of the job.
      */
     public JobDescription(String description) {
+        this(description, true);
+    }
+
+    private JobDescription(String description, boolean isChecked) {
         requireNonNull(description);
-        checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        }
         value = description;
     }
 
+    /**
+     * Returns a {@code JobDescription} for a description that is already known to be valid, without validating it
+     * again. Used to restore data that was validated before it was stored.
+     */
+    public static JobDescription ofValidated(String description) {
+        return new JobDescription(description, false);
+    }
+
     /**
      * Returns true if a given string is a valid description.
      */
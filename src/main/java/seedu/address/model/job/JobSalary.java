@@ -3,6 +3,8 @@ package seedu.address.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Job's monthly salary in the address book.
  */
@@ -25,17 +27,24 @@ public class JobSalary {
         value = Integer.parseInt(salary);
     }
 
+    private JobSalary(int salary) {
+        value = salary;
+    }
+
+    /**
+     * Returns a {@code JobSalary} for a salary that is already known to be valid, without validating it again.
+     * Used to restore data that was validated before it was stored.
+     */
+    public static JobSalary ofValidated(int salary) {
+        return new JobSalary(salary);
+    }
+
     /**
      * Returns true if a given string is a valid salary.
      */
     public static boolean isValidSalary(String test) {
         requireNonNull(test);
-        try {
-            Integer.parseInt(test);
-        } catch (NumberFormatException e) {
-            return false;
-        }
-        return true;
+        return ValidationUtil.isInt(test);
     }
 
     @Override
@@ -0,0 +1,138 @@
+package seedu.address.model.job;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the words of jobs to the jobs, which ranks the jobs matching a search with BM25.
+ * <p>
+ * The name, company, description and requirements of a job are indexed as one text. Words are runs of letters and
+ * digits, folded to one case. For each word, the index keeps the jobs containing it with the number of times they do,
+ * and it keeps the number of words of each job, so a search only reads the entries of the words searched for. Jobs are
+ * kept by identity, as the index holds the instances stored in the list.
+ */
+class JobTextIndex {
+
+    /** How quickly more occurrences of a word stop making a job more relevant. */
+    private static final double TERM_FREQUENCY_SATURATION = 1.2;
+
+    /** How much being longer than the average job makes a job less relevant, from 0 to 1. */
+    private static final double LENGTH_NORMALIZATION = 0.75;
+
+    private final Map<String, Map<Job, Integer>> termCountsByTerm = new HashMap<>();
+    private final Map<Job, Integer> lengths = new IdentityHashMap<>();
+    private long totalLength;
+
+    void add(Job job) {
+        Map<String, Integer> termCounts = countTerms(job);
+        termCounts.forEach((term, count) ->
+                termCountsByTerm.computeIfAbsent(term, unused -> new IdentityHashMap<>()).put(job, count));
+        int length = termCounts.values().stream().mapToInt(Integer::intValue).sum();
+        lengths.put(job, length);
+        totalLength += length;
+    }
+
+    void remove(Job job) {
+        Integer length = lengths.remove(job);
+        if (length == null) {
+            return;
+        }
+        totalLength -= length;
+        for (String term : countTerms(job).keySet()) {
+            Map<Job, Integer> termCounts = termCountsByTerm.get(term);
+            termCounts.remove(job);
+            if (termCounts.isEmpty()) {
+                termCountsByTerm.remove(term);
+            }
+        }
+    }
+
+    void clear() {
+        termCountsByTerm.clear();
+        lengths.clear();
+        totalLength = 0;
+    }
+
+    /**
+     * Returns the at most {@code limit} jobs most relevant to {@code keywords}, with their BM25 scores. Only jobs
+     * containing a word of the keywords are returned. The jobs are kept by identity in the map returned.
+     */
+    Map<Job, Double> search(List<String> keywords, int limit) {
+        Map<Job, Double> scores = new IdentityHashMap<>();
+        int jobCount = lengths.size();
+        double averageLength = jobCount == 0 ? 0 : (double) totalLength / jobCount;
+        List<String> terms = new ArrayList<>();
+        keywords.forEach(keyword -> forEachTerm(keyword, term -> {
+            if (!terms.contains(term)) {
+                terms.add(term);
+            }
+        }));
+
+        for (String term : terms) {
+            Map<Job, Integer> termCounts = termCountsByTerm.getOrDefault(term, Map.of());
+            int matchingJobCount = termCounts.size();
+            double inverseDocumentFrequency =
+                    Math.log(1 + (jobCount - matchingJobCount + 0.5) / (matchingJobCount + 0.5));
+            termCounts.forEach((job, count) -> {
+                double lengthRatio = lengths.get(job) / averageLength;
+                double termScore = inverseDocumentFrequency * count * (TERM_FREQUENCY_SATURATION + 1)
+                        / (count + TERM_FREQUENCY_SATURATION
+                                * (1 - LENGTH_NORMALIZATION + LENGTH_NORMALIZATION * lengthRatio));
+                scores.merge(job, termScore, Double::sum);
+            });
+        }
+
+        // Only the best jobs seen so far are kept, with the worst of them at the head to be replaced.
+        PriorityQueue<Map.Entry<Job, Double>> bestJobs = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Job, Double> score : scores.entrySet()) {
+            if (bestJobs.size() < limit) {
+                bestJobs.add(score);
+            } else if (limit > 0 && score.getValue() > bestJobs.peek().getValue()) {
+                bestJobs.poll();
+                bestJobs.add(score);
+            }
+        }
+        Map<Job, Double> bestScores = new IdentityHashMap<>();
+        bestJobs.forEach(score -> bestScores.put(score.getKey(), score.getValue()));
+        return bestScores;
+    }
+
+    /**
+     * Returns the number of times each word occurs in the indexed text of {@code job}.
+     */
+    private static Map<String, Integer> countTerms(Job job) {
+        Map<String, Integer> termCounts = new HashMap<>();
+        Consumer<String> counter = term -> termCounts.merge(term, 1, Integer::sum);
+        forEachTerm(job.getName().fullName, counter);
+        forEachTerm(job.getCompany().fullName, counter);
+        forEachTerm(job.getDescription().value, counter);
+        for (Tag requirement : job.getRequirements()) {
+            forEachTerm(requirement.tagName, counter);
+        }
+        return termCounts;
+    }
+
+    /**
+     * Calls {@code action} with each run of letters and digits in {@code text}, folded to one case.
+     */
+    private static void forEachTerm(String text, Consumer<String> action) {
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTermEnd = i == text.length() || !Character.isLetterOrDigit(text.charAt(i));
+            if (!isTermEnd && start < 0) {
+                start = i;
+            } else if (isTermEnd && start >= 0) {
+                action.accept(StringUtil.foldCase(text.substring(start, i)));
+                start = -1;
+            }
+        }
+    }
+}
@@ -3,21 +3,41 @@ package seedu.address.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.job.exceptions.DuplicateJobException;
 import seedu.address.model.job.exceptions.JobNotFoundException;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * A list of unique jobs.
+ * A job is considered unique by comparing using {@code Job#isSameJob(Job)}. The list keeps a hash set of the
+ * case-insensitive identifiers of its jobs, so that checking whether a job is in the list does not scan the whole list.
+ * It also keeps an inverted index of the words of its jobs, so that searching the jobs does not scan them either, and
+ * keeps its jobs sorted by salary, so that queries on a salary range can start from the jobs in the range.
  */
 public class UniqueJobList implements Iterable<Job> {
 
     private final ObservableList<Job> internalList = FXCollections.observableArrayList();
     private final ObservableList<Job> internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    private long modificationCount;
+    private final Set<String> identifierKeys = new HashSet<>();
+    private final JobTextIndex jobsByWord = new JobTextIndex();
+    private final NavigableMap<Integer, Set<Job>> jobsBySalary = new TreeMap<>();
 
     /**
      * Adds a job to the list.
@@ -29,6 +49,8 @@ public class UniqueJobList implements Iterable<Job> {
             throw new DuplicateJobException();
         }
         internalList.add(toAdd);
+        modificationCount++;
+        addToIndexes(toAdd);
     }
 
     /**
@@ -48,12 +70,16 @@ public class UniqueJobList implements Iterable<Job> {
             throw new DuplicateJobException();
         }
 
-        internalList.set(index, editedJob);
+        removeFromIndexes(internalList.set(index, editedJob));
+        modificationCount++;
+        addToIndexes(editedJob);
     }
 
     public void setJobs(UniqueJobList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        modificationCount++;
+        rebuildIdentifierKeys();
     }
 
     /**
@@ -67,6 +93,8 @@ public class UniqueJobList implements Iterable<Job> {
         }
 
         internalList.setAll(jobs);
+        modificationCount++;
+        rebuildIdentifierKeys();
     }
 
     /**
@@ -75,9 +103,13 @@ public class UniqueJobList implements Iterable<Job> {
      */
     public void remove(Job toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new JobNotFoundException();
         }
+        // The indexes hold the stored instance, which may be a different but equal one.
+        removeFromIndexes(internalList.remove(index));
+        modificationCount++;
     }
 
     /**
@@ -85,23 +117,114 @@ public class UniqueJobList implements Iterable<Job> {
      */
     public boolean contains(Job toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameJob);
+        return identifierKeys.contains(toCheck.getCaseInsensitiveIdentifier());
+    }
+
+    /**
+     * Returns the at most {@code limit} jobs in this list most relevant to {@code keywords}, with their relevance.
+     * Only jobs with a word of the keywords in their name, company, description or requirements are returned. They
+     * are ranked with BM25, so that jobs with more of the rarer words are more relevant.
+     */
+    public Map<Job, Double> findRelevantJobs(List<String> keywords, int limit) {
+        requireAllNonNull(keywords);
+        return jobsByWord.search(keywords, limit);
+    }
+
+    /**
+     * Returns the plan for finding the jobs in this list that meet all of {@code conditions}, which must be conditions
+     * created by {@link JobConditions}. Conditions on salaries are indexed.
+     */
+    public QueryPlan<Job> planQuery(List<Condition<Job>> conditions) {
+        requireAllNonNull(conditions);
+        return QueryPlan.of("jobs", internalList, conditions, this::lookUp);
+    }
+
+    /**
+     * Returns the jobs meeting {@code condition} from an index, if it is indexed.
+     */
+    private Optional<Collection<Job>> lookUp(Condition<Job> condition) {
+        if (!condition.getField().equals(JobConditions.FIELD_SALARY)) {
+            return Optional.empty();
+        }
+        int salary = Integer.parseInt(condition.getValue());
+        switch (condition.getOperator()) {
+        case AT_MOST:
+            return Optional.of(flatten(jobsBySalary.headMap(salary, true).values()));
+        case AT_LEAST:
+            return Optional.of(flatten(jobsBySalary.tailMap(salary, true).values()));
+        case LESS:
+            return Optional.of(flatten(jobsBySalary.headMap(salary, false).values()));
+        case GREATER:
+            return Optional.of(flatten(jobsBySalary.tailMap(salary, false).values()));
+        default:
+            return Optional.of(flatten(jobsBySalary.subMap(salary, true, salary, true).values()));
+        }
+    }
+
+    /**
+     * Returns a view of the jobs in {@code jobSets}, whose size is the sum of their sizes.
+     */
+    private static Collection<Job> flatten(Collection<Set<Job>> jobSets) {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Job> iterator() {
+                return jobSets.stream().flatMap(Set::stream).iterator();
+            }
+
+            @Override
+            public int size() {
+                return jobSets.stream().mapToInt(Set::size).sum();
+            }
+        };
+    }
+
+    private void addToIndexes(Job job) {
+        identifierKeys.add(job.getCaseInsensitiveIdentifier());
+        jobsByWord.add(job);
+        jobsBySalary.computeIfAbsent(job.getSalary().value,
+                unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(job);
+    }
+
+    private void removeFromIndexes(Job job) {
+        identifierKeys.remove(job.getCaseInsensitiveIdentifier());
+        jobsByWord.remove(job);
+        Set<Job> jobs = jobsBySalary.get(job.getSalary().value);
+        if (jobs != null && jobs.remove(job) && jobs.isEmpty()) {
+            jobsBySalary.remove(job.getSalary().value);
+        }
+    }
+
+    /**
+     * Rebuilds the set of identifier keys and the indexes from the current contents of the list.
+     */
+    private void rebuildIdentifierKeys() {
+        identifierKeys.clear();
+        jobsByWord.clear();
+        jobsBySalary.clear();
+        internalList.forEach(this::addToIndexes);
     }
 
     /**
      * Returns true if {@code jobs} contains only unique jobs.
      */
     private boolean jobsAreUnique(List<Job> jobs) {
-        for (int i = 0; i < jobs.size() - 1; i++) {
-            for (int j = i + 1; j < jobs.size(); j++) {
-                if (jobs.get(i).isSameJob(jobs.get(j))) {
-                    return false;
-                }
+        Set<String> identifiers = new HashSet<>();
+        for (Job job : jobs) {
+            if (!identifiers.add(job.getCaseInsensitiveIdentifier())) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the number of changes made to this list so far.
+     * The count only ever increases, so an unchanged count means that the list still holds the same jobs.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
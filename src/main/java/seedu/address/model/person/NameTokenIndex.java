@@ -0,0 +1,176 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words of persons' names to the persons, ignoring case.
+ * <p>
+ * Words are folded the way {@link String#equalsIgnoreCase(String)} compares characters, so a person is found by a word
+ * exactly when {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase(String, String)} would match the
+ * word in the person's name. Persons are kept by identity, as the index holds the instances stored in the list.
+ * <p>
+ * The distinct words are also indexed by their trigrams, so that words with a few typos can be found without comparing
+ * every word: a word within {@code k} edits of another shares all but at most {@code 4k} of its trigrams.
+ */
+class NameTokenIndex {
+
+    /** The most trigrams that one edit can change. A swap of two characters changes the most. */
+    private static final int TRIGRAMS_PER_EDIT = 4;
+
+    /** Pads words so that their first and last characters are in as many trigrams as the others. */
+    private static final String TRIGRAM_PADDING = "  ";
+
+    private final Map<String, Set<Person>> personsByToken = new HashMap<>();
+    private final Map<String, Set<String>> tokensByTrigram = new HashMap<>();
+
+    /**
+     * Returns {@code word} folded to the form in which it is kept in the index.
+     */
+    static String toToken(String word) {
+        return StringUtil.foldCase(word);
+    }
+
+    /**
+     * Returns the number of typos allowed in a word of {@code length} characters. Short words must match exactly, as
+     * most other short words are a typo or two away from them.
+     */
+    static int getMaxEdits(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 7 ? 1 : 2;
+    }
+
+    void add(Person person) {
+        forEachToken(person, token -> personsByToken.computeIfAbsent(token, unused -> {
+            forEachTrigram(token, trigram -> tokensByTrigram.computeIfAbsent(trigram, none -> new HashSet<>())
+                    .add(token));
+            return Collections.newSetFromMap(new IdentityHashMap<>());
+        }).add(person));
+    }
+
+    void remove(Person person) {
+        forEachToken(person, token -> {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons != null) {
+                persons.remove(person);
+                if (persons.isEmpty()) {
+                    personsByToken.remove(token);
+                    forEachTrigram(token, trigram -> {
+                        // A trigram can occur twice in a token, and only be indexed once.
+                        Set<String> tokens = tokensByTrigram.get(trigram);
+                        if (tokens != null && tokens.remove(token) && tokens.isEmpty()) {
+                            tokensByTrigram.remove(trigram);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    void clear() {
+        personsByToken.clear();
+        tokensByTrigram.clear();
+    }
+
+    /**
+     * Returns true if {@code person} is in the index under {@code token}.
+     */
+    boolean contains(String token, Person person) {
+        Set<Person> persons = personsByToken.get(token);
+        return persons != null && persons.contains(person);
+    }
+
+    /**
+     * Returns the persons in the index under {@code token}, as an unmodifiable view.
+     */
+    Set<Person> getPersons(String token) {
+        return Collections.unmodifiableSet(personsByToken.getOrDefault(token, Set.of()));
+    }
+
+    /**
+     * Returns true if {@code person} is in the index under any of {@code tokens}.
+     */
+    boolean containsAny(Person person, List<String> tokens) {
+        for (String token : tokens) {
+            if (contains(token, person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the tokens in the index within {@link #getMaxEdits(int)} edits of {@code token}, with the number of
+     * edits between each of them and {@code token}.
+     * Only the tokens sharing enough trigrams with {@code token} are compared with it, unless {@code token} has too few
+     * distinct trigrams to rule any token out.
+     */
+    Map<String, Integer> findSimilarTokens(String token) {
+        int maxEdits = getMaxEdits(token.length());
+        Set<String> trigrams = new HashSet<>();
+        forEachTrigram(token, trigrams::add);
+        int minSharedTrigrams = trigrams.size() - TRIGRAMS_PER_EDIT * maxEdits;
+
+        Collection<String> candidates;
+        if (minSharedTrigrams <= 0) {
+            candidates = personsByToken.keySet();
+        } else {
+            Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+            for (String trigram : trigrams) {
+                for (String candidate : tokensByTrigram.getOrDefault(trigram, Set.of())) {
+                    sharedTrigramCounts.merge(candidate, 1, Integer::sum);
+                }
+            }
+            sharedTrigramCounts.values().removeIf(count -> count < minSharedTrigrams);
+            candidates = sharedTrigramCounts.keySet();
+        }
+
+        Map<String, Integer> similarTokens = new HashMap<>();
+        for (String candidate : candidates) {
+            int edits = StringUtil.getEditDistance(token, candidate, maxEdits);
+            if (edits <= maxEdits) {
+                similarTokens.put(candidate, edits);
+            }
+        }
+        return similarTokens;
+    }
+
+    /**
+     * Calls {@code action} with each whitespace-separated word of the name of {@code person}, folded into a token.
+     */
+    private static void forEachToken(Person person, Consumer<String> action) {
+        String name = person.getName().fullName;
+        int start = -1;
+        for (int i = 0; i <= name.length(); i++) {
+            boolean isWordEnd = i == name.length() || Character.isWhitespace(name.charAt(i));
+            if (!isWordEnd && start < 0) {
+                start = i;
+            } else if (isWordEnd && start >= 0) {
+                action.accept(toToken(name.substring(start, i)));
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * Calls {@code action} with each trigram of the padded {@code token}. Tokens have no whitespace, so the padding
+     * cannot be mistaken for part of a token.
+     */
+    private static void forEachTrigram(String token, Consumer<String> action) {
+        String paddedToken = TRIGRAM_PADDING + token + TRIGRAM_PADDING;
+        for (int i = 0; i + 3 <= paddedToken.length(); i++) {
+            action.accept(paddedToken.substring(i, i + 3));
+        }
+    }
+}
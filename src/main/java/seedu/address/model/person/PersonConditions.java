@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.Condition.Operator;
+
+/**
+ * Creates the conditions that contacts can be queried by.
+ */
+public class PersonConditions {
+
+    public static final String FIELD_NAME = "name";
+    public static final String FIELD_ROLE = "role";
+    public static final String FIELD_SKILL = "skill";
+    public static final String FIELD_STATUS = "status";
+    public static final String STATUS_MATCHED = "matched";
+    public static final String STATUS_UNMATCHED = "unmatched";
+
+    public static final String MESSAGE_CONSTRAINTS = "Contacts can be queried by name~WORD, role~WORD, skill=SKILL, "
+            + "status=" + STATUS_MATCHED + " and status=" + STATUS_UNMATCHED;
+
+    // prevents instantiation
+    private PersonConditions() {
+    }
+
+    /**
+     * Returns the condition that {@code field} of a contact compares with {@code value} by {@code operator}.
+     * Values are compared ignoring case, and a word must be a full word of the field.
+     *
+     * @throws IllegalArgumentException if contacts cannot be queried that way.
+     */
+    public static Condition<Person> of(String field, Operator operator, String value) {
+        requireAllNonNull(field, operator, value);
+        checkArgument(!value.isEmpty(), MESSAGE_CONSTRAINTS);
+        switch (field + operator.getSymbol()) {
+        case FIELD_NAME + "~":
+            checkArgument(isWord(value), MESSAGE_CONSTRAINTS);
+            return new Condition<>(field, operator, value,
+                    person -> StringUtil.containsWordIgnoreCase(person.getName().fullName, value));
+        case FIELD_ROLE + "~":
+            checkArgument(isWord(value), MESSAGE_CONSTRAINTS);
+            return new Condition<>(field, operator, value,
+                    person -> StringUtil.containsWordIgnoreCase(person.getRole().value, value));
+        case FIELD_SKILL + "=":
+            return new Condition<>(field, operator, value,
+                    person -> person.getSkills().stream().anyMatch(skill -> skill.skillName.equalsIgnoreCase(value)));
+        case FIELD_STATUS + "=":
+            checkArgument(value.equalsIgnoreCase(STATUS_MATCHED) || value.equalsIgnoreCase(STATUS_UNMATCHED),
+                    MESSAGE_CONSTRAINTS);
+            boolean isMatched = value.equalsIgnoreCase(STATUS_MATCHED);
+            return new Condition<>(field, operator, isMatched ? STATUS_MATCHED : STATUS_UNMATCHED,
+                    person -> person.isMatchPresent() == isMatched);
+        default:
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static boolean isWord(String value) {
+        return value.split("\\s+").length == 1;
+    }
+}
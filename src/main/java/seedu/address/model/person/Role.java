@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's role in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRole(String)}
@@ -26,16 +28,30 @@ public class Role {
      * @param role A valid role.
      */
     public Role(String role) {
+        this(role, true);
+    }
+
+    private Role(String role, boolean isChecked) {
         requireNonNull(role);
-        checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
+        }
         value = role;
     }
 
+    /**
+     * Returns a {@code Role} for a role that is already known to be valid, without validating it again.
+     * Used to restore data that was validated before it was stored.
+     */
+    public static Role ofValidated(String role) {
+        return new Role(role, false);
+    }
+
     /**
      * Returns true if a given string is a valid role.
      */
     public static boolean isValidRole(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericStart(test, " ");
     }
 
     @Override
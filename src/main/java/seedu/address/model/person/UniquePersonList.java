@@ -3,13 +3,27 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.skill.Skill;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +32,12 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since a person's identity is fully determined by its email and phone, the list also keeps a hash index on each of
+ * them, so that identity checks do not need to scan the whole list. The words of persons' names are indexed too, so
+ * that finding persons by name does not need to split every name. Persons are also indexed by skill, ignoring case, and
+ * by whether they are matched, so that queries can start from the persons meeting their most selective condition. The
+ * indexes are updated before the list, so that views of the list that filter changed persons by name see the new names.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +47,30 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long modificationCount;
+    private final Map<Email, Person> personsByEmail = new HashMap<>();
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+    private final NameTokenIndex personsByNameToken = new NameTokenIndex();
+    private final Map<String, Set<Person>> personsBySkill = new HashMap<>();
+    private final Set<Person> matchedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Person> unmatchedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByEmail.containsKey(toCheck.getEmail()) || personsByPhone.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Returns true if the list contains a person other than {@code target} that is equivalent to {@code toCheck}.
+     */
+    public boolean containsOther(Person target, Person toCheck) {
+        requireAllNonNull(target, toCheck);
+        Person sameEmail = personsByEmail.get(toCheck.getEmail());
+        Person samePhone = personsByPhone.get(toCheck.getPhone());
+        return (sameEmail != null && !sameEmail.equals(target)) || (samePhone != null && !samePhone.equals(target));
     }
 
     /**
@@ -45,7 +82,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        addToIndexes(toAdd);
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -61,11 +100,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (containsOther(target, editedPerson)) {
             throw new DuplicatePersonException();
         }
 
+        removeFromIndexes(internalList.get(index));
+        addToIndexes(editedPerson);
         internalList.set(index, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -74,14 +116,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        // The name index holds the stored instance, which may be a different but equal one.
+        removeFromIndexes(internalList.get(index));
+        internalList.remove(index);
+        modificationCount++;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        modificationCount++;
     }
 
     /**
@@ -94,7 +143,91 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of changes made to this list so far.
+     * The count only ever increases, so an unchanged count means that the list still holds the same persons.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns a predicate that tests whether a person in this list has a name containing any of {@code keywords},
+     * ignoring case, as {@link NameContainsKeywordsPredicate} does.
+     * The keywords are looked up in the name index, which follows the changes to the list, so the predicate can stay
+     * on a filtered view of the list. Persons that are not in the list never pass.
+     */
+    public Predicate<Person> getNameContainsKeywordsPredicate(List<String> keywords) {
+        requireAllNonNull(keywords);
+        List<String> tokens = keywords.stream().map(NameTokenIndex::toToken).distinct()
+                .collect(Collectors.toList());
+        return person -> personsByNameToken.containsAny(person, tokens);
+    }
+
+    /**
+     * Returns the persons in this list with names similar to {@code keywords}, ignoring case and allowing for typos,
+     * with how similar their names are.
+     * Each keyword adds the similarity of the word of the name closest to it, from 1 for the same word down to 0 for a
+     * word more than a few typos away. Only the persons under the words similar to the keywords in the name index are
+     * looked at, and the similarities found stay the same when the list changes afterwards.
+     */
+    public Map<Person, Double> findSimilarNames(List<String> keywords) {
+        requireAllNonNull(keywords);
+        List<String> keywordTokens = keywords.stream().map(NameTokenIndex::toToken).distinct()
+                .collect(Collectors.toList());
+        Map<Person, Double> similarities = new IdentityHashMap<>();
+        for (String keywordToken : keywordTokens) {
+            Map<Person, Double> closestSimilarities = new IdentityHashMap<>();
+            findSimilarNameTokens(keywordToken).forEach((token, similarity) -> {
+                for (Person person : personsByNameToken.getPersons(token)) {
+                    closestSimilarities.merge(person, similarity, Math::max);
+                }
+            });
+            closestSimilarities.forEach((person, similarity) -> similarities.merge(person, similarity, Double::sum));
+        }
+        return similarities;
+    }
+
+    /**
+     * Returns the plan for finding the persons in this list that meet all of {@code conditions}, which must be
+     * conditions created by {@link PersonConditions}. Conditions on names, skills and match status are indexed.
+     */
+    public QueryPlan<Person> planQuery(List<Condition<Person>> conditions) {
+        requireAllNonNull(conditions);
+        return QueryPlan.of("contacts", internalList, conditions, this::lookUp);
+    }
+
+    /**
+     * Returns the persons meeting {@code condition} from an index, if it is indexed.
+     */
+    private Optional<Collection<Person>> lookUp(Condition<Person> condition) {
+        switch (condition.getField()) {
+        case PersonConditions.FIELD_NAME:
+            return Optional.of(personsByNameToken.getPersons(NameTokenIndex.toToken(condition.getValue())));
+        case PersonConditions.FIELD_SKILL:
+            return Optional.of(Collections.unmodifiableSet(
+                    personsBySkill.getOrDefault(StringUtil.foldCase(condition.getValue()), Set.of())));
+        case PersonConditions.FIELD_STATUS:
+            boolean isMatched = condition.getValue().equals(PersonConditions.STATUS_MATCHED);
+            return Optional.of(Collections.unmodifiableSet(isMatched ? matchedPersons : unmatchedPersons));
+        default:
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the name tokens similar to {@code keywordToken}, with their similarity to it.
+     */
+    private Map<String, Double> findSimilarNameTokens(String keywordToken) {
+        Map<String, Double> tokenSimilarities = new HashMap<>();
+        personsByNameToken.findSimilarTokens(keywordToken).forEach((token, edits) -> tokenSimilarities.put(token,
+                1 - (double) edits / Math.max(token.length(), keywordToken.length())));
+        return tokenSimilarities;
     }
 
     /**
@@ -134,15 +267,60 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void addToIndexes(Person person) {
+        personsByEmail.put(person.getEmail(), person);
+        personsByPhone.put(person.getPhone(), person);
+        personsByNameToken.add(person);
+        for (Skill skill : person.getSkills()) {
+            personsBySkill.computeIfAbsent(StringUtil.foldCase(skill.skillName),
+                    unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+        getPersonsWithSameStatus(person).add(person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        personsByEmail.remove(person.getEmail());
+        personsByPhone.remove(person.getPhone());
+        personsByNameToken.remove(person);
+        for (Skill skill : person.getSkills()) {
+            String skillKey = StringUtil.foldCase(skill.skillName);
+            Set<Person> persons = personsBySkill.get(skillKey);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsBySkill.remove(skillKey);
+            }
+        }
+        getPersonsWithSameStatus(person).remove(person);
+    }
+
+    /**
+     * Returns the index of the persons that are matched if {@code person} is, or unmatched otherwise.
+     */
+    private Set<Person> getPersonsWithSameStatus(Person person) {
+        return person.isMatchPresent() ? matchedPersons : unmatchedPersons;
+    }
+
+    /**
+     * Rebuilds the indexes for {@code persons}, which are to become the contents of the list.
+     */
+    private void rebuildIndexes(List<Person> persons) {
+        personsByEmail.clear();
+        personsByPhone.clear();
+        personsByNameToken.clear();
+        personsBySkill.clear();
+        matchedPersons.clear();
+        unmatchedPersons.clear();
+        persons.forEach(this::addToIndexes);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Email> emails = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        for (Person person : persons) {
+            if (!emails.add(person.getEmail()) || !phones.add(person.getPhone())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,116 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A condition of a query on a field of an entity, such as {@code salary>5000}.
+ * Conditions are equal when they have the same field, operator and value.
+ */
+public class Condition<T> implements Predicate<T> {
+
+    /**
+     * The operators of conditions.
+     */
+    public enum Operator {
+        AT_MOST("<="),
+        AT_LEAST(">="),
+        LESS("<"),
+        GREATER(">"),
+        EQUAL("="),
+        CONTAINS("~");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Returns the operator written as {@code symbol}, if there is one.
+         */
+        public static Optional<Operator> of(String symbol) {
+            return Arrays.stream(values()).filter(operator -> operator.symbol.equals(symbol)).findFirst();
+        }
+    }
+
+    /**
+     * Creates the conditions on the fields of one kind of entity.
+     */
+    @FunctionalInterface
+    public interface Factory<T> {
+        /**
+         * Returns the condition that {@code field} compares with {@code value} by {@code operator}.
+         *
+         * @throws IllegalArgumentException if there is no such field, or it cannot be compared that way.
+         */
+        Condition<T> create(String field, Operator operator, String value);
+    }
+
+    private final String field;
+    private final Operator operator;
+    private final String value;
+    private final Predicate<T> test;
+
+    /**
+     * Creates a condition that holds for the entities passing {@code test}.
+     */
+    public Condition(String field, Operator operator, String value, Predicate<T> test) {
+        requireAllNonNull(field, operator, value, test);
+        this.field = field;
+        this.operator = operator;
+        this.value = value;
+        this.test = test;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean test(T entity) {
+        return test.test(entity);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Condition)) {
+            return false;
+        }
+
+        Condition<?> otherCondition = (Condition<?>) other;
+        return field.equals(otherCondition.field) && operator == otherCondition.operator
+                && value.equals(otherCondition.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, operator, value);
+    }
+
+    @Override
+    public String toString() {
+        return field + operator.getSymbol() + value;
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.transformation.FilteredList;
+
+/**
+ * A plan for finding the entities that meet all the conditions of a query.
+ * <p>
+ * The plan looks the candidates up in the index of its most selective indexed condition, that is the one met by the
+ * fewest entities, and checks the other conditions on each candidate only. Without any indexed condition, every entity
+ * is a candidate.
+ */
+public class QueryPlan<T> {
+
+    private final String entities;
+    private final Condition<T> indexedCondition;
+    private final Collection<T> candidates;
+    private final int candidateCount;
+    private final List<Condition<T>> residualConditions;
+
+    private QueryPlan(String entities, Condition<T> indexedCondition, Collection<T> candidates, int candidateCount,
+            List<Condition<T>> residualConditions) {
+        this.entities = entities;
+        this.indexedCondition = indexedCondition;
+        this.candidates = candidates;
+        this.candidateCount = candidateCount;
+        this.residualConditions = residualConditions;
+    }
+
+    /**
+     * Returns the plan for finding the entities among {@code all} that meet all of {@code conditions}.
+     * {@code index} returns the entities meeting a condition from an index, if the condition is indexed. The sizes of
+     * the collections it returns are compared to choose the index, so they must be cheap to get.
+     *
+     * @param entities what the entities are called in the description of the plan, e.g. {@code "contacts"}.
+     */
+    public static <T> QueryPlan<T> of(String entities, Collection<T> all, List<Condition<T>> conditions,
+            Function<Condition<T>, Optional<Collection<T>>> index) {
+        requireAllNonNull(entities, all, conditions, index);
+        Condition<T> indexedCondition = null;
+        Collection<T> candidates = all;
+        int candidateCount = all.size();
+        for (Condition<T> condition : conditions) {
+            Optional<Collection<T>> indexed = index.apply(condition);
+            if (indexed.isPresent() && (indexedCondition == null || indexed.get().size() < candidateCount)) {
+                indexedCondition = condition;
+                candidates = indexed.get();
+                candidateCount = candidates.size();
+            }
+        }
+
+        List<Condition<T>> residualConditions = new ArrayList<>(conditions);
+        residualConditions.remove(indexedCondition);
+        return new QueryPlan<>(entities, indexedCondition, candidates, candidateCount, residualConditions);
+    }
+
+    /**
+     * Returns the number of entities the conditions are checked on.
+     */
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Returns the entities meeting all the conditions. They are kept by identity, as the candidates are the instances
+     * stored in their list.
+     */
+    public Set<T> execute() {
+        Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (T candidate : candidates) {
+            if (residualConditions.stream().allMatch(condition -> condition.test(candidate))) {
+                found.add(candidate);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Filters {@code list}, whose source is the list this plan was made from, to the entities meeting all the
+     * conditions.
+     * <p>
+     * Setting the filter tests every entity, which is only looked up among the entities found by this plan. After
+     * that, the filtered list only tests the entities added to or replaced in its source, so only those are checked
+     * against the conditions, and edited entities are shown or hidden as they meet the conditions or not.
+     */
+    public void applyTo(FilteredList<T> list) {
+        requireNonNull(list);
+        Filter filter = new Filter(execute());
+        list.setPredicate(filter);
+        filter.isApplied = true;
+    }
+
+    /**
+     * Returns a description of the plan for users.
+     */
+    public String getDescription() {
+        StringBuilder description = new StringBuilder();
+        if (indexedCondition == null) {
+            description.append(String.format("Plan: scan all %1$d %2$s", candidateCount, entities));
+        } else {
+            description.append(String.format("Plan: look up %1$s in an index, giving %2$d of the %3$s",
+                    indexedCondition, candidateCount, entities));
+        }
+        if (!residualConditions.isEmpty()) {
+            description.append(", then check ")
+                    .append(residualConditions.stream().map(Condition::toString).collect(Collectors.joining(" and ")))
+                    .append(" on each");
+        }
+        return description.append('.').toString();
+    }
+
+    /**
+     * Accepts the entities found by the plan, and once applied, any other entity meeting all the conditions.
+     */
+    private class Filter implements Predicate<T> {
+        private final Set<T> found;
+        private boolean isApplied;
+
+        private Filter(Set<T> found) {
+            this.found = found;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            if (found.contains(entity)) {
+                return true;
+            }
+            return isApplied && (indexedCondition == null || indexedCondition.test(entity))
+                    && residualConditions.stream().allMatch(condition -> condition.test(entity));
+        }
+    }
+}
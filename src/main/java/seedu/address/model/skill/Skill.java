@@ -3,6 +3,8 @@ package seedu.address.model.skill;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Skill in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidSkillName(String)}
@@ -19,16 +21,30 @@ public class Skill {
      * @param skillName A valid skill name.
      */
     public Skill(String skillName) {
+        this(skillName, true);
+    }
+
+    private Skill(String skillName, boolean isChecked) {
         requireNonNull(skillName);
-        checkArgument(isValidSkillName(skillName), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidSkillName(skillName), MESSAGE_CONSTRAINTS);
+        }
         this.skillName = skillName;
     }
 
+    /**
+     * Returns a {@code Skill} for a skill name that is already known to be valid, without validating it again.
+     * Used to restore data that was validated before it was stored.
+     */
+    public static Skill ofValidated(String skillName) {
+        return new Skill(skillName, false);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidSkillName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericStart(test, " ");
     }
 
     @Override
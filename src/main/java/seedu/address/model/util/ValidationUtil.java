@@ -0,0 +1,160 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Hand-written checks for the formats of the fields of the model.
+ * <p>
+ * Each check accepts exactly the strings matched by the {@code VALIDATION_REGEX} of the field it is used by, but scans
+ * the string once without compiling a pattern, allocating a matcher or throwing an exception. Fields are validated for
+ * every command argument that is parsed and for every record in a data file that is loaded.
+ */
+public class ValidationUtil {
+
+    /** Characters that may separate the alphanumeric runs in the local part of an email, as in {@code Email}. */
+    private static final String EMAIL_LOCAL_PART_SEPARATORS = "+_.-";
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, which is what {@code \p{Alnum}} and {@code [^\W_]} match.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, which is what {@code \d} matches.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code test} starts with an ASCII letter or digit, followed by any number of ASCII letters,
+     * digits and characters in {@code otherCharacters}, as matched by {@code [\p{Alnum}][\p{Alnum}<otherCharacters>]*}.
+     */
+    public static boolean isAlphanumericStart(String test, String otherCharacters) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && otherCharacters.indexOf(c) == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} consists of between {@code minLength} and {@code maxLength} ASCII digits, as
+     * matched by {@code \d{minLength,maxLength}}.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        requireNonNull(test);
+        if (test.length() < minLength || test.length() > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a single line that does not start with whitespace, as matched by
+     * {@code [^\s].*}.
+     */
+    public static boolean isNonBlankLine(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || StringUtil.isRegexWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (StringUtil.isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} would be parsed by {@link Integer#parseInt(String)} without an exception.
+     */
+    public static boolean isInt(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        boolean isNegative = test.charAt(0) == '-';
+        int start = isNegative || test.charAt(0) == '+' ? 1 : 0;
+        if (start == test.length()) {
+            return false;
+        }
+
+        long limit = isNegative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (int i = start; i < test.length(); i++) {
+            // Integer.parseInt accepts the digits of every script, not only ASCII ones.
+            int digit = Character.digit(test.charAt(i), 10);
+            if (digit < 0) {
+                return false;
+            }
+            value = value * 10 + digit;
+            if (value > limit) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is an email address in the format described in {@code Email}: a local part of
+     * alphanumeric runs separated by single {@code +_.-} characters, an {@code @}, and a domain of labels separated by
+     * periods, each made of alphanumeric runs separated by single hyphens, the last being at least 2 characters long.
+     */
+    public static boolean isEmail(String test) {
+        requireNonNull(test);
+        int at = test.indexOf('@');
+        if (at == -1 || !isSeparatedRuns(test, 0, at, EMAIL_LOCAL_PART_SEPARATORS)) {
+            return false;
+        }
+
+        int labelStart = at + 1;
+        int labelEnd = test.indexOf('.', labelStart);
+        while (labelEnd != -1) {
+            if (!isSeparatedRuns(test, labelStart, labelEnd, "-")) {
+                return false;
+            }
+            labelStart = labelEnd + 1;
+            labelEnd = test.indexOf('.', labelStart);
+        }
+        return test.length() - labelStart >= 2 && isSeparatedRuns(test, labelStart, test.length(), "-");
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} to {@code end} are runs of ASCII letters and
+     * digits separated by single characters in {@code separators}, as matched by {@code A+([<separators>]A+)*} where
+     * {@code A} is {@code [^\W_]}.
+     */
+    private static boolean isSeparatedRuns(String test, int start, int end, String separators) {
+        if (start == end || !isAsciiAlphanumeric(test.charAt(start)) || !isAsciiAlphanumeric(test.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                continue;
+            }
+            // A separator is always followed by an alphanumeric character, since the run cannot end with one.
+            if (separators.indexOf(c) == -1 || !isAsciiAlphanumeric(test.charAt(i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
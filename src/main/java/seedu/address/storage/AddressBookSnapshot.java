@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.company.Company;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * A frozen copy of the contents of a {@code ReadOnlyAddressBook}.
+ * As persons, jobs and companies are immutable, only the lists holding them are copied. This makes the snapshot cheap
+ * to take on the thread that owns the model, and safe to read from any other thread afterwards.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Job> jobs;
+    private final ObservableList<Company> companies;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getPersonList()));
+        jobs = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getJobList()));
+        companies = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getCompanyList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Job> getJobList() {
+        return jobs;
+    }
+
+    @Override
+    public ObservableList<Company> getCompanyList() {
+        return companies;
+    }
+}
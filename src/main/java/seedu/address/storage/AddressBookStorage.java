@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -42,4 +43,17 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns only once every save requested so far has been written to the storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the listener told about saves that fail after {@link #saveAddressBook(ReadOnlyAddressBook)} has returned.
+     * Storages that write each save before returning report failures by throwing them, and ignore the listener.
+     */
+    default void setSaveFailureListener(Consumer<IOException> saveFailureListener) {
+    }
+
 }
@@ -0,0 +1,543 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.common.Address;
+import seedu.address.model.common.Name;
+import seedu.address.model.company.BillingDate;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.exceptions.CompanyNotFoundException;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobCompany;
+import seedu.address.model.job.JobDescription;
+import seedu.address.model.job.JobSalary;
+import seedu.address.model.job.exceptions.JobNotFoundException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC}, the format version and the offsets of its four sections. The first section is
+ * a table of the distinct strings in the address book, each stored once as length-prefixed UTF-8. It is followed by
+ * the companies, jobs and persons, whose text fields are indices into the string table. A job refers to its company
+ * by the company's position in the companies section, and a person refers to the job it is matched to by the job's
+ * position in the jobs section. Names are only the same as their references ignoring case, so a job also keeps its
+ * company name as written, and a person its match. All numbers are big-endian {@code int}s.
+ * <p>
+ * The file is read through a {@link MappedByteBuffer}, and each distinct skill and requirement is validated once
+ * however many persons and jobs share it.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x54434142;
+    public static final int VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPT = "Binary data file is corrupt.";
+    public static final String MESSAGE_MISSING_REFERENCE = "%s refers to %s that is not in the address book.";
+
+    private static final int NO_MATCH = -1;
+    private static final int HEADER_INTS = 6;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file to use in place of the json data file at {@code jsonFilePath}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (CompanyNotFoundException cnfe) {
+            logger.info("Job associated with non-existent company in " + filePath + ": " + cnfe.getMessage());
+            throw new DataLoadingException(cnfe);
+        } catch (JobNotFoundException jnfe) {
+            logger.info("Person associated with non-existent job in " + filePath + ": " + jnfe.getMessage());
+            throw new DataLoadingException(jnfe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        write(addressBook, filePath);
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is never anything left to flush.
+    }
+
+    /**
+     * Reads the address book stored in the binary file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not a valid binary data file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_CORRUPT);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer, false);
+        }
+    }
+
+    /**
+     * Reads the address book stored in binary format in {@code buffer}, from its position to its limit.
+     * If {@code isTrusted} is true, the data is known to have been validated before it was stored, so the fields of
+     * the records and the references between them are not validated again.
+     *
+     * @throws IOException if the buffer does not hold valid binary data.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(ByteBuffer buffer, boolean isTrusted) throws IOException, IllegalValueException {
+        try {
+            return new Reader(buffer.slice(), isTrusted).read();
+        } catch (BufferUnderflowException bue) {
+            throw new IOException(MESSAGE_CORRUPT, bue);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the binary file at {@code filePath}, replacing its current contents.
+     *
+     * @throws IOException if there was any problem writing to the file, or if an entity refers to another entity
+     *     that is not in {@code addressBook}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.writeAtomically(filePath, out -> write(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} in binary format to {@code out}, which is left open.
+     *
+     * @throws IOException if there was any problem writing to {@code out}, or if an entity refers to another entity
+     *     that is not in {@code addressBook}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        new Writer().write(addressBook, out);
+    }
+
+    /**
+     * Decodes a binary data file from a buffer holding all of it.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private final boolean isTrusted;
+        private String[] strings;
+        private Skill[] skills;
+        private Tag[] tags;
+
+        Reader(ByteBuffer buffer, boolean isTrusted) {
+            this.buffer = buffer;
+            this.isTrusted = isTrusted;
+        }
+
+        AddressBook read() throws IOException, IllegalValueException {
+            if (buffer.remaining() < HEADER_INTS * Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_BINARY);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            int stringsOffset = buffer.getInt();
+            int companiesOffset = buffer.getInt();
+            int jobsOffset = buffer.getInt();
+            int personsOffset = buffer.getInt();
+
+            seek(stringsOffset);
+            readStrings();
+            seek(companiesOffset);
+            List<Company> companies = readCompanies();
+            seek(jobsOffset);
+            List<Job> jobs = readJobs(companies);
+            seek(personsOffset);
+            List<Person> persons = readPersons(jobs);
+
+            if (!isTrusted) {
+                return JsonSerializableAddressBook.toModelType(companies, jobs, persons);
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setCompanies(companies);
+            addressBook.setJobs(jobs);
+            addressBook.setPersons(persons);
+            return addressBook;
+        }
+
+        private void readStrings() throws IOException {
+            int count = readCount();
+            strings = new String[count];
+            skills = new Skill[count];
+            tags = new Tag[count];
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = new byte[readCount()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+
+        private List<Company> readCompanies() throws IOException, IllegalValueException {
+            int count = readCount();
+            List<Company> companies = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String name = readString();
+                String address = readString();
+                String phone = readString();
+                String billingDate = readString();
+                companies.add(convert(() -> new Company(toName(name),
+                        isTrusted ? Address.ofValidated(address) : new Address(address),
+                        isTrusted ? BillingDate.ofValidated(billingDate) : new BillingDate(billingDate),
+                        toPhone(phone))));
+            }
+            return companies;
+        }
+
+        private List<Job> readJobs(List<Company> companies) throws IOException, IllegalValueException {
+            int count = readCount();
+            List<Job> jobs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String name = readString();
+                // The position of the company is only checked, as the job keeps the company name as written.
+                readIndex(companies.size());
+                String companyName = readString();
+                int salary = buffer.getInt();
+                String description = readString();
+                Set<Tag> requirements = new HashSet<>();
+                int requirementCount = readCount();
+                for (int j = 0; j < requirementCount; j++) {
+                    requirements.add(readTag());
+                }
+                jobs.add(convert(() -> new Job(toName(name),
+                        isTrusted ? JobCompany.ofValidated(companyName) : new JobCompany(companyName),
+                        isTrusted ? JobSalary.ofValidated(salary) : new JobSalary(String.valueOf(salary)),
+                        isTrusted ? JobDescription.ofValidated(description) : new JobDescription(description),
+                        requirements)));
+            }
+            return jobs;
+        }
+
+        private List<Person> readPersons(List<Job> jobs) throws IOException, IllegalValueException {
+            int count = readCount();
+            List<Person> persons = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String name = readString();
+                String phone = readString();
+                String email = readString();
+                String role = readString();
+                Set<Skill> personSkills = new HashSet<>();
+                int skillCount = readCount();
+                for (int j = 0; j < skillCount; j++) {
+                    personSkills.add(readSkill());
+                }
+                int matchIndex = buffer.getInt();
+                String match = null;
+                if (matchIndex != NO_MATCH) {
+                    checkIndex(matchIndex, jobs.size());
+                    match = readString();
+                }
+                String personMatch = match;
+                persons.add(convert(() -> {
+                    Email personEmail = isTrusted ? Email.ofValidated(email) : new Email(email);
+                    Role personRole = isTrusted ? Role.ofValidated(role) : new Role(role);
+                    return personMatch == null
+                            ? new Person(toName(name), toPhone(phone), personEmail, personRole, personSkills)
+                            : new Person(toName(name), toPhone(phone), personEmail, personRole, personSkills,
+                                    personMatch);
+                }));
+            }
+            return persons;
+        }
+
+        private Skill readSkill() throws IOException, IllegalValueException {
+            int index = readIndex(strings.length);
+            if (skills[index] == null) {
+                skills[index] = convert(() -> isTrusted ? Skill.ofValidated(strings[index])
+                        : new Skill(strings[index]));
+            }
+            return skills[index];
+        }
+
+        private Tag readTag() throws IOException, IllegalValueException {
+            int index = readIndex(strings.length);
+            if (tags[index] == null) {
+                tags[index] = convert(() -> isTrusted ? Tag.ofValidated(strings[index]) : new Tag(strings[index]));
+            }
+            return tags[index];
+        }
+
+        private Name toName(String name) {
+            return isTrusted ? Name.ofValidated(name) : new Name(name);
+        }
+
+        private Phone toPhone(String phone) {
+            return isTrusted ? Phone.ofValidated(phone) : new Phone(phone);
+        }
+
+        private String readString() throws IOException {
+            return strings[readIndex(strings.length)];
+        }
+
+        private int readIndex(int size) throws IOException {
+            return checkIndex(buffer.getInt(), size);
+        }
+
+        private static int checkIndex(int index, int size) throws IOException {
+            if (index < 0 || index >= size) {
+                throw new IOException(MESSAGE_CORRUPT);
+            }
+            return index;
+        }
+
+        /**
+         * Reads a count of items that follow, which cannot be more than the number of bytes left.
+         */
+        private int readCount() throws IOException {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IOException(MESSAGE_CORRUPT);
+            }
+            return count;
+        }
+
+        private void seek(int offset) throws IOException {
+            if (offset < 0 || offset > buffer.limit()) {
+                throw new IOException(MESSAGE_CORRUPT);
+            }
+            buffer.position(offset);
+        }
+
+        /**
+         * Returns the model object built by {@code constructor}, reporting any constraint it violates as an
+         * {@code IllegalValueException}, as the JsonAdapted classes do.
+         */
+        private static <T> T convert(ModelConstructor<T> constructor) throws IllegalValueException {
+            try {
+                return constructor.construct();
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Builds a model object, throwing {@code IllegalArgumentException} if a field violates its constraints.
+     */
+    @FunctionalInterface
+    private interface ModelConstructor<T> {
+        T construct();
+    }
+
+    /**
+     * Encodes an address book into a binary data file.
+     */
+    private static class Writer {
+        private final Map<String, Integer> stringIndices = new LinkedHashMap<>();
+        private final Map<String, Integer> companyIndices = new HashMap<>();
+        private final Map<String, Integer> jobIndices = new HashMap<>();
+
+        void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+            byte[] companies = writeCompanies(addressBook.getCompanyList());
+            byte[] jobs = writeJobs(addressBook.getJobList());
+            byte[] persons = writePersons(addressBook.getPersonList());
+            byte[] strings = writeStrings();
+
+            int stringsOffset = HEADER_INTS * Integer.BYTES;
+            int companiesOffset = stringsOffset + strings.length;
+            int jobsOffset = companiesOffset + companies.length;
+            int personsOffset = jobsOffset + jobs.length;
+
+            DataOutputStream dataOut = new DataOutputStream(out);
+            dataOut.writeInt(MAGIC);
+            dataOut.writeInt(VERSION);
+            dataOut.writeInt(stringsOffset);
+            dataOut.writeInt(companiesOffset);
+            dataOut.writeInt(jobsOffset);
+            dataOut.writeInt(personsOffset);
+            dataOut.write(strings);
+            dataOut.write(companies);
+            dataOut.write(jobs);
+            dataOut.write(persons);
+            dataOut.flush();
+        }
+
+        private byte[] writeStrings() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(stringIndices.size());
+            for (String string : stringIndices.keySet()) {
+                byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte[] writeCompanies(List<Company> companies) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(companies.size());
+            for (Company company : companies) {
+                companyIndices.put(company.getName().toCaseInsensitiveKey(), companyIndices.size());
+                writeString(out, company.getName().fullName);
+                writeString(out, company.getAddress().value);
+                writeString(out, company.getPhone().value);
+                writeString(out, company.getBillingDate().date);
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte[] writeJobs(List<Job> jobs) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(jobs.size());
+            for (Job job : jobs) {
+                jobIndices.put(job.getCaseInsensitiveIdentifier(), jobIndices.size());
+                writeString(out, job.getName().fullName);
+                Integer companyIndex = companyIndices.get(job.getCompany().toCaseInsensitiveKey());
+                if (companyIndex == null) {
+                    throw new IOException(String.format(MESSAGE_MISSING_REFERENCE, "Job " + job.getName(),
+                            "company " + job.getCompany()));
+                }
+                out.writeInt(companyIndex);
+                writeString(out, job.getCompany().fullName);
+                out.writeInt(job.getSalary().value);
+                writeString(out, job.getDescription().value);
+                out.writeInt(job.getRequirements().size());
+                for (Tag requirement : job.getRequirements()) {
+                    writeString(out, requirement.tagName);
+                }
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte[] writePersons(List<Person> persons) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                writeString(out, person.getRole().value);
+                out.writeInt(person.getSkills().size());
+                for (Skill skill : person.getSkills()) {
+                    writeString(out, skill.skillName);
+                }
+                if (person.isMatchPresent()) {
+                    out.writeInt(findMatchedJob(person));
+                    writeString(out, person.getMatch().get());
+                } else {
+                    out.writeInt(NO_MATCH);
+                }
+            }
+            return bytes.toByteArray();
+        }
+
+        private int findMatchedJob(Person person) throws IOException {
+            String match = person.getMatch().get();
+            Integer jobIndex = jobIndices.get(match.toLowerCase(Locale.ROOT));
+            if (jobIndex == null) {
+                throw new IOException(String.format(MESSAGE_MISSING_REFERENCE, "Person " + person.getName(),
+                        "job " + match));
+            }
+            return jobIndex;
+        }
+
+        private void writeString(DataOutputStream out, String string) throws IOException {
+            Integer index = stringIndices.putIfAbsent(string, stringIndices.size());
+            out.writeInt(index == null ? stringIndices.size() - 1 : index);
+        }
+    }
+}
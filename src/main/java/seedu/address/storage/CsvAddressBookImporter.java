@@ -0,0 +1,425 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.exceptions.CompanyNotFoundException;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.exceptions.JobNotFoundException;
+import seedu.address.model.person.Person;
+
+/**
+ * Imports the contacts, jobs or companies in a CSV file into an address book.
+ * <p>
+ * The first record of the file names the columns, in any order and case. Fields with several values, such as the
+ * skills of a contact, separate them with {@value #VALUE_SEPARATOR}. The file is streamed in chunks of
+ * {@link #CHUNK_SIZE} rows. The rows of a chunk are validated in parallel on a fork-join pool while the next chunk is
+ * read, and are then added to the address book in their order in the file. Duplicates of records in the address book,
+ * or earlier in the file, and references to jobs or companies that do not exist are found with hash lookups.
+ * <p>
+ * Rows that cannot be imported are written to a reject file with the same columns, and an {@value #ERROR_COLUMN}
+ * column in front that says why. The {@value #ERROR_COLUMN} column is ignored when importing, so the reject file can be
+ * corrected and imported again.
+ *
+ * @param <T> the type of the records imported.
+ */
+public class CsvAddressBookImporter<T> {
+
+    public static final String VALUE_SEPARATOR = ";";
+    public static final String ERROR_COLUMN = "error";
+    public static final String REJECT_FILE_SUFFIX = ".rejected.csv";
+
+    public static final String MESSAGE_EMPTY_FILE = "The file is empty";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Unknown column '%1$s'. Valid columns are: %2$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column '%1$s' appears more than once";
+    public static final String MESSAGE_MISSING_COLUMN = "Column '%1$s' is missing";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d";
+    public static final String MESSAGE_INVALID_ROW = "Line %1$d: %2$s";
+    public static final String MESSAGE_DUPLICATE_CONTACT = "A contact with this phone number or email already exists";
+    public static final String MESSAGE_DUPLICATE_JOB = "A job with this name already exists in this company";
+    public static final String MESSAGE_DUPLICATE_COMPANY = "A company with this name already exists";
+    public static final String MESSAGE_UNKNOWN_JOB = "There is no job '%1$s' to match the contact to";
+    public static final String MESSAGE_UNKNOWN_COMPANY = "There is no company '%1$s' to add the job to";
+
+    /**
+     * Columns of the files of contacts, jobs and companies, in the order in which {@link RecordExporter} writes them.
+     * The columns after the first four are optional.
+     */
+    static final List<String> PERSON_COLUMNS = List.of("name", "phone", "email", "role", "skills", "match");
+    static final List<String> JOB_COLUMNS = List.of("name", "company", "salary", "description", "requirements");
+    static final List<String> COMPANY_COLUMNS = List.of("name", "address", "billing date", "phone");
+
+    /** Number of rows read, validated and added at a time. */
+    static final int CHUNK_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(CsvAddressBookImporter.class);
+
+    private final List<String> columns;
+    private final List<String> requiredColumns;
+    private final ParallelRecordConverter.Converter<Map<String, String>, T> converter;
+    private final Adder<T> adder;
+
+    private CsvAddressBookImporter(List<String> columns, List<String> requiredColumns,
+            ParallelRecordConverter.Converter<Map<String, String>, T> converter, Adder<T> adder) {
+        this.columns = columns;
+        this.requiredColumns = requiredColumns;
+        this.converter = converter;
+        this.adder = adder;
+    }
+
+    /**
+     * Returns an importer of contacts, with the columns name, phone, email, role, skills and match.
+     * Contacts that have the phone number or email of another contact are rejected, as are contacts matched to a job
+     * that does not exist, given as {@code COMPANY::JOB}.
+     */
+    public static CsvAddressBookImporter<Person> forPersons() {
+        return new CsvAddressBookImporter<>(PERSON_COLUMNS, PERSON_COLUMNS.subList(0, 4),
+                fields -> new JsonAdaptedPerson(fields.get("name"), fields.get("phone"), fields.get("email"),
+                        fields.get("role"),
+                        split(fields.get("skills")).stream().map(JsonAdaptedSkill::new).collect(Collectors.toList()),
+                        emptyToNull(fields.get("match"))).toModelType(),
+                CsvAddressBookImporter::addPerson);
+    }
+
+    /**
+     * Returns an importer of jobs, with the columns name, company, salary, description and requirements.
+     * Jobs of companies that do not exist are rejected, as are jobs with the name of another job of the same company.
+     */
+    public static CsvAddressBookImporter<Job> forJobs() {
+        return new CsvAddressBookImporter<>(JOB_COLUMNS, JOB_COLUMNS.subList(0, 4),
+                fields -> new JsonAdaptedJob(fields.get("name"), fields.get("company"), fields.get("salary"),
+                        fields.get("description"),
+                        split(fields.get("requirements")).stream().map(JsonAdaptedTag::new)
+                                .collect(Collectors.toList())).toModelType(),
+                CsvAddressBookImporter::addJob);
+    }
+
+    /**
+     * Returns an importer of companies, with the columns name, address, billing date and phone.
+     * Companies with the name of another company are rejected.
+     */
+    public static CsvAddressBookImporter<Company> forCompanies() {
+        return new CsvAddressBookImporter<>(COMPANY_COLUMNS, COMPANY_COLUMNS,
+                fields -> new JsonAdaptedCompany(fields.get("name"), fields.get("address"), fields.get("billing date"),
+                        fields.get("phone")).toModelType(),
+                CsvAddressBookImporter::addCompany);
+    }
+
+    /**
+     * Returns the path of the file that the rows of {@code csvFile} that cannot be imported are written to.
+     * For example, the reject file of {@code data/contacts.csv} is {@code data/contacts.rejected.csv}.
+     */
+    public static Path toRejectFilePath(Path csvFile) {
+        String fileName = csvFile.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return csvFile.resolveSibling(baseName + REJECT_FILE_SUFFIX);
+    }
+
+    /**
+     * Adds the records in {@code csvFile} to {@code target}, and writes the rows that cannot be added to
+     * {@code rejectFile}. A reject file left by an earlier import is deleted, and none is written if every row is
+     * added.
+     * If the file cannot be read, {@code target} may have some of the records added to it.
+     *
+     * @throws IOException if {@code csvFile} cannot be read or {@code rejectFile} cannot be written.
+     * @throws IllegalValueException if the columns of {@code csvFile} are not those of the records imported.
+     */
+    public Result importInto(AddressBook target, Path csvFile, Path rejectFile)
+            throws IOException, IllegalValueException {
+        requireNonNull(target);
+        requireNonNull(csvFile);
+        requireNonNull(rejectFile);
+        Files.deleteIfExists(rejectFile);
+
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(csvFile, StandardCharsets.UTF_8));
+                RejectWriter rejects = new RejectWriter(rejectFile)) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new IllegalValueException(MESSAGE_EMPTY_FILE);
+            }
+            List<String> fileColumns = toColumns(header);
+            rejects.setHeader(header);
+
+            int addedCount = 0;
+            ForkJoinTask<List<Row<T>>> validatedChunk = null;
+            while (true) {
+                List<Row<T>> chunk = readChunk(reader);
+                if (validatedChunk != null) {
+                    addedCount += addAll(validatedChunk.join(), target, rejects);
+                }
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                validatedChunk = ForkJoinPool.commonPool().submit(() -> validate(chunk, fileColumns));
+            }
+
+            logger.info(String.format("Imported %d records from %s, rejected %d", addedCount, csvFile,
+                    rejects.getCount()));
+            return new Result(addedCount, rejects.getCount());
+        }
+    }
+
+    /**
+     * Returns the names of the columns in {@code header}, in lower case, with null for the {@value #ERROR_COLUMN}
+     * column.
+     */
+    private List<String> toColumns(List<String> header) throws IllegalValueException {
+        List<String> fileColumns = new ArrayList<>(header.size());
+        for (String name : header) {
+            String column = name.trim().toLowerCase(Locale.ROOT);
+            if (column.equals(ERROR_COLUMN)) {
+                fileColumns.add(null);
+                continue;
+            }
+            if (!columns.contains(column)) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_COLUMN, name,
+                        String.join(", ", columns)));
+            }
+            if (fileColumns.contains(column)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_COLUMN, name));
+            }
+            fileColumns.add(column);
+        }
+        for (String requiredColumn : requiredColumns) {
+            if (!fileColumns.contains(requiredColumn)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, requiredColumn));
+            }
+        }
+        return fileColumns;
+    }
+
+    /**
+     * Reads up to {@link #CHUNK_SIZE} rows, skipping empty lines.
+     */
+    private static <T> List<Row<T>> readChunk(CsvReader reader) throws IOException {
+        List<Row<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<String> fields;
+        while (chunk.size() < CHUNK_SIZE && (fields = reader.readRecord()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            chunk.add(new Row<>(reader.getRecordLineNumber(), fields));
+        }
+        return chunk;
+    }
+
+    /**
+     * Converts each row of {@code chunk} into a record, or the reason it is rejected, in parallel.
+     */
+    private List<Row<T>> validate(List<Row<T>> chunk, List<String> fileColumns) {
+        chunk.parallelStream().forEach(row -> row.convert(fileColumns, converter));
+        return chunk;
+    }
+
+    /**
+     * Adds the records of the valid rows of {@code chunk} to {@code target} in order, and writes the other rows to
+     * {@code rejects}.
+     *
+     * @return the number of records added.
+     */
+    private int addAll(List<Row<T>> chunk, AddressBook target, RejectWriter rejects) throws IOException {
+        int addedCount = 0;
+        for (Row<T> row : chunk) {
+            String error = row.error;
+            if (error == null) {
+                try {
+                    adder.add(target, row.record);
+                    addedCount++;
+                } catch (IllegalValueException e) {
+                    error = e.getMessage();
+                }
+            }
+            if (error != null) {
+                rejects.write(String.format(MESSAGE_INVALID_ROW, row.lineNumber, error), row.fields);
+            }
+        }
+        return addedCount;
+    }
+
+    private static void addPerson(AddressBook target, Person person) throws IllegalValueException {
+        if (target.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
+        }
+        try {
+            target.addPerson(person);
+        } catch (JobNotFoundException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_JOB, person.getMatch().get()), e);
+        }
+    }
+
+    private static void addJob(AddressBook target, Job job) throws IllegalValueException {
+        if (target.hasJob(job)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_JOB);
+        }
+        try {
+            target.addJob(job);
+        } catch (CompanyNotFoundException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_COMPANY, job.getCompany()), e);
+        }
+    }
+
+    private static void addCompany(AddressBook target, Company company) throws IllegalValueException {
+        if (target.hasCompany(company)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_COMPANY);
+        }
+        target.addCompany(company);
+    }
+
+    /**
+     * Returns the values in {@code field}, separated by {@value #VALUE_SEPARATOR}, without surrounding whitespace.
+     */
+    private static List<String> split(String field) {
+        if (field == null || field.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(field.split(VALUE_SEPARATOR, -1)).map(String::trim).collect(Collectors.toList());
+    }
+
+    private static String emptyToNull(String field) {
+        return field == null || field.isEmpty() ? null : field;
+    }
+
+    /**
+     * The number of records imported from a file, and the number of rows that were rejected.
+     */
+    public static class Result {
+        private final int importedCount;
+        private final int rejectedCount;
+
+        Result(int importedCount, int rejectedCount) {
+            this.importedCount = importedCount;
+            this.rejectedCount = rejectedCount;
+        }
+
+        public int getImportedCount() {
+            return importedCount;
+        }
+
+        public int getRejectedCount() {
+            return rejectedCount;
+        }
+    }
+
+    /**
+     * A row of the file, and the record it is converted into or the reason it is rejected.
+     */
+    private static class Row<T> {
+        private final int lineNumber;
+        private final List<String> fields;
+        private T record;
+        private String error;
+
+        Row(int lineNumber, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+
+        void convert(List<String> fileColumns, ParallelRecordConverter.Converter<Map<String, String>, T> converter) {
+            if (fields.size() != fileColumns.size()) {
+                error = String.format(MESSAGE_WRONG_FIELD_COUNT, fileColumns.size(), fields.size());
+                return;
+            }
+            Map<String, String> namedFields = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                if (fileColumns.get(i) != null) {
+                    namedFields.put(fileColumns.get(i), fields.get(i).trim());
+                }
+            }
+            try {
+                record = converter.convert(namedFields);
+            } catch (IllegalValueException e) {
+                error = e.getMessage();
+            }
+        }
+    }
+
+    /**
+     * Writes rejected rows to the reject file, which is only created when the first row is rejected.
+     */
+    private static class RejectWriter implements AutoCloseable {
+        private final Path rejectFile;
+        private List<String> header;
+        private CsvWriter writer;
+        private int count;
+
+        RejectWriter(Path rejectFile) {
+            this.rejectFile = rejectFile;
+        }
+
+        void setHeader(List<String> header) {
+            this.header = header;
+        }
+
+        void write(String error, List<String> fields) throws IOException {
+            if (writer == null) {
+                FileUtil.createParentDirsOfFile(rejectFile);
+                writer = new CsvWriter(Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8));
+                writer.writeRecord(withError(ERROR_COLUMN, header));
+            }
+            writer.writeRecord(withError(error, fields));
+            count++;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+
+        /**
+         * Returns {@code fields} with {@code error} in front, in place of any earlier error, so that importing and
+         * rejecting the same row again does not add another {@value #ERROR_COLUMN} column.
+         */
+        private List<String> withError(String error, List<String> fields) {
+            List<String> record = new ArrayList<>(fields.size() + 1);
+            record.add(error);
+            for (int i = 0; i < fields.size(); i++) {
+                boolean isErrorColumn = i < header.size() && header.get(i).trim().equalsIgnoreCase(ERROR_COLUMN);
+                if (!isErrorColumn) {
+                    record.add(fields.get(i));
+                }
+            }
+            return record;
+        }
+    }
+
+    /**
+     * Adds a record to an address book.
+     */
+    @FunctionalInterface
+    private interface Adder<T> {
+        /**
+         * Adds {@code record} to {@code target}.
+         *
+         * @throws IllegalValueException if the record cannot be added, e.g. because it is a duplicate.
+         */
+        void add(AddressBook target, T record) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,705 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.company.exceptions.CompanyNotFoundException;
+import seedu.address.model.job.exceptions.JobNotFoundException;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot, together with a journal of the
+ * changes saved since the snapshot was written.
+ * <p>
+ * The snapshot is an ordinary data file, in the same format as that of {@link JsonAddressBookStorage}. Each save
+ * appends a single line to the journal, {@code <data file>.journal}, describing the range of each of the person, job
+ * and company lists that differs from the previous save, so that the cost of a save depends on the size of the change
+ * rather than on the size of the address book. The journal is forced to the disk after every few records. Once the
+ * journal has grown larger than the snapshot, the data is written to a new snapshot in the background and the journal
+ * is started afresh.
+ * <p>
+ * The journal starts with the length and checksum of the snapshot it applies to. A journal that does not belong to
+ * the data file, for example because the data file has been edited by hand, is ignored.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_MIN_COMPACTION_BYTES = 1 << 16;
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 16;
+
+    public static final String MESSAGE_MISSING_HEADER = "Journal does not start with a header.";
+    public static final String MESSAGE_INVALID_CHANGE = "Journal record changes a range outside the %s list.";
+    public static final String MESSAGE_UNKNOWN_FIELD = "Journal record has unknown field '%s'.";
+
+    private static final String NEW_JOURNAL_FILE_SUFFIX = ".journal.new";
+    private static final String SNAPSHOT_LENGTH_FIELD = "snapshotLength";
+    private static final String SNAPSHOT_CHECKSUM_FIELD = "snapshotChecksum";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path newJournalPath;
+    private final boolean isPrettyPrinted;
+    private final long minCompactionBytes;
+    private final int syncBatchSize;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below are guarded by this object's lock.
+    // The data last read or saved, or null if the files may not hold it.
+    private ReadOnlyAddressBook savedData;
+    // The snapshot in the data file, or null if it is not known.
+    private SnapshotInfo snapshotInfo;
+    // Incremented every time the data file is replaced or read.
+    private long snapshotGeneration;
+    // The journal belonging to the data file, positioned after its last record, or null if there is none.
+    private FileChannel journal;
+    private int unsyncedRecords;
+    // The compaction in progress and the records saved since it started, or null if there is none.
+    private Future<?> compaction;
+    private List<byte[]> recordsSinceCompaction;
+
+    public JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DEFAULT_MIN_COMPACTION_BYTES, DEFAULT_SYNC_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which is indented for human readers if
+     * {@code isPrettyPrinted} is true.
+     *
+     * @param minCompactionBytes the size the journal must reach, in addition to the size of the data file, before it
+     *                           is compacted.
+     * @param syncBatchSize the number of records appended to the journal between forcing it to the disk.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted, long minCompactionBytes,
+                                       int syncBatchSize) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.newJournalPath = filePath.resolveSibling(filePath.getFileName() + NEW_JOURNAL_FILE_SUFFIX);
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.minCompactionBytes = minCompactionBytes;
+        this.syncBatchSize = syncBatchSize;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only used for the data file of this storage. Any other file is read as a plain data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new JsonAddressBookStorage(filePath, isPrettyPrinted).readAddressBook(filePath);
+        }
+
+        synchronized (this) {
+            closeJournal();
+            savedData = null;
+            snapshotInfo = null;
+            snapshotGeneration++;
+
+            if (!Files.exists(filePath)) {
+                return Optional.empty();
+            }
+            logger.info("JSON file " + filePath + " found.");
+
+            try {
+                AddressBook addressBook = readSnapshotAndJournal();
+                savedData = new AddressBookSnapshot(addressBook);
+                return Optional.of(addressBook);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from jsonFile file " + filePath + " or its journal: " + ioe);
+                throw new DataLoadingException(ioe);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            } catch (CompanyNotFoundException cnfe) {
+                logger.info("Job associated with non-existent company in " + filePath + ": " + cnfe.getMessage());
+                throw new DataLoadingException(cnfe);
+            } catch (JobNotFoundException jnfe) {
+                logger.info("Person associated with non-existent job in " + filePath + ": " + jnfe.getMessage());
+                throw new DataLoadingException(jnfe);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the previous save are written, unless the files may not hold the previous save, in which
+     * case the data file is rewritten. Any file other than the data file of this storage is written as a plain data
+     * file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new JsonAddressBookStorage(filePath, isPrettyPrinted).saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook newData = new AddressBookSnapshot(addressBook);
+        synchronized (this) {
+            try {
+                if (savedData == null || snapshotInfo == null) {
+                    Path snapshotPath = createSnapshotFile();
+                    installSnapshot(snapshotPath, writeSnapshot(newData, snapshotPath), Collections.emptyList());
+                    savedData = newData;
+                    return;
+                }
+                if (journal == null) {
+                    installJournal(snapshotInfo, Collections.emptyList());
+                }
+
+                byte[] record = encodeRecord(savedData, newData);
+                if (record == null) {
+                    return;
+                }
+                appendRecord(record);
+                if (recordsSinceCompaction != null) {
+                    recordsSinceCompaction.add(record);
+                }
+                savedData = newData;
+
+                if (compaction == null && journal.size() >= Math.max(minCompactionBytes, snapshotInfo.length)) {
+                    startCompaction(newData);
+                }
+            } catch (IOException ioe) {
+                // The files may no longer hold the previous save, so the next save has to write everything.
+                savedData = null;
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * Forces the journal to the disk, and waits for any compaction in progress to complete.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        Future<?> pendingCompaction;
+        synchronized (this) {
+            syncJournal();
+            pendingCompaction = compaction;
+        }
+        if (pendingCompaction == null) {
+            return;
+        }
+
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the journal to be compacted", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    //// reading
+
+    /**
+     * Reads the data file and replays the journal belonging to it, leaving the journal open for appending.
+     */
+    private AddressBook readSnapshotAndJournal() throws IOException, IllegalValueException {
+        JsonAddressBookStreamReader records;
+        SnapshotInfo info;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+                CheckedInputStream in = new CheckedInputStream(Channels.newInputStream(channel), new CRC32())) {
+            records = JsonAddressBookStreamReader.readRecords(in);
+            readToEnd(in);
+            info = new SnapshotInfo(channel.size(), in.getChecksum().getValue());
+        }
+
+        openJournal(info);
+        if (journal != null) {
+            JsonParser parser = JsonUtil.createParser(Channels.newInputStream(journal));
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            readHeader(parser);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                replayRecord(parser, records);
+            }
+            journal.position(journal.size());
+        }
+        snapshotInfo = info;
+
+        return JsonSerializableAddressBook.toModelType(records.getCompanies(), records.getJobs(),
+                records.getPersons());
+    }
+
+    /**
+     * Opens the journal belonging to the snapshot described by {@code info}, positioned after its header, or leaves
+     * {@link #journal} null if there is none. Any incomplete record at the end of the journal is discarded.
+     */
+    private void openJournal(SnapshotInfo info) throws IOException {
+        // A new journal is only left behind if saving was interrupted while the data file was being replaced.
+        if (Files.exists(newJournalPath)) {
+            if (info.equals(readHeader(newJournalPath))) {
+                FileUtil.moveReplacing(newJournalPath, journalPath);
+            } else {
+                Files.delete(newJournalPath);
+            }
+        }
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        if (!info.equals(readHeader(journalPath))) {
+            logger.info("Ignoring journal " + journalPath + " as it does not belong to " + filePath);
+            return;
+        }
+
+        journal = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long length = findEndOfLastRecord(journal);
+        if (length < journal.size()) {
+            logger.warning("Discarding incomplete record at the end of journal " + journalPath);
+            journal.truncate(length);
+        }
+        journal.position(0);
+    }
+
+    /**
+     * Returns the snapshot named in the header of the journal at {@code path}, or null if it has no valid header.
+     */
+    private static SnapshotInfo readHeader(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            return readHeader(parser);
+        } catch (JsonParseException jpe) {
+            return null;
+        }
+    }
+
+    private static SnapshotInfo readHeader(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_MISSING_HEADER);
+        }
+        long length = -1;
+        long checksum = -1;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals(SNAPSHOT_LENGTH_FIELD)) {
+                length = parser.getLongValue();
+            } else if (fieldName.equals(SNAPSHOT_CHECKSUM_FIELD)) {
+                checksum = parser.getLongValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (length < 0 || checksum < 0) {
+            throw new JsonParseException(parser, MESSAGE_MISSING_HEADER);
+        }
+        return new SnapshotInfo(length, checksum);
+    }
+
+    /**
+     * Applies the record that {@code parser} is positioned at to {@code records}.
+     */
+    private static void replayRecord(JsonParser parser, JsonAddressBookStreamReader records)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "persons":
+                replayChange(parser, fieldName, records.getPersons(), () ->
+                        parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+                break;
+            case "jobs":
+                replayChange(parser, fieldName, records.getJobs(), () ->
+                        parser.readValueAs(JsonAdaptedJob.class).toModelType());
+                break;
+            case "companies":
+                replayChange(parser, fieldName, records.getCompanies(), () ->
+                        parser.readValueAs(JsonAdaptedCompany.class).toModelType());
+                break;
+            default:
+                throw new JsonParseException(parser, String.format(MESSAGE_UNKNOWN_FIELD, fieldName));
+            }
+        }
+    }
+
+    /**
+     * Applies the change to {@code list} that {@code parser} is positioned at.
+     */
+    private static <T> void replayChange(JsonParser parser, String fieldName, List<T> list,
+                                         ElementReader<T> elementReader) throws IOException, IllegalValueException {
+        int index = -1;
+        int removed = -1;
+        List<T> added = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String changeFieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (changeFieldName.equals("index")) {
+                index = parser.getIntValue();
+            } else if (changeFieldName.equals("removed")) {
+                removed = parser.getIntValue();
+            } else if (changeFieldName.equals("added") && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    added.add(elementReader.readElement());
+                }
+            } else {
+                throw new JsonParseException(parser, String.format(MESSAGE_UNKNOWN_FIELD, changeFieldName));
+            }
+        }
+
+        if (index < 0 || removed < 0 || index + removed > list.size()) {
+            throw new JsonParseException(parser, String.format(MESSAGE_INVALID_CHANGE, fieldName));
+        }
+        List<T> range = list.subList(index, index + removed);
+        range.clear();
+        range.addAll(added);
+    }
+
+    /**
+     * Returns the length of the journal up to and including the newline ending its last record.
+     */
+    private static long findEndOfLastRecord(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = channel.size();
+        while (position > 0) {
+            int length = (int) Math.min(BUFFER_SIZE, position);
+            position -= length;
+            buffer.clear();
+            buffer.limit(length);
+            while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+                // Keep reading until the buffer is full.
+            }
+            for (int i = length - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static void readToEnd(InputStream in) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (in.read(buffer) != -1) {
+            // The bytes only need to pass through the checksum.
+        }
+    }
+
+    //// writing
+
+    /**
+     * Returns the line describing how {@code newData} differs from {@code oldData}, or null if they hold the same
+     * persons, jobs and companies.
+     */
+    private static byte[] encodeRecord(ReadOnlyAddressBook oldData, ReadOnlyAddressBook newData) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        boolean hasChanges = false;
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, false)) {
+            generator.writeStartObject();
+            hasChanges |= writeChange("persons", oldData.getPersonList(), newData.getPersonList(),
+                    JsonAddressBookStreamWriter::writePerson, generator);
+            hasChanges |= writeChange("jobs", oldData.getJobList(), newData.getJobList(),
+                    JsonAddressBookStreamWriter::writeJob, generator);
+            hasChanges |= writeChange("companies", oldData.getCompanyList(), newData.getCompanyList(),
+                    JsonAddressBookStreamWriter::writeCompany, generator);
+            generator.writeEndObject();
+        }
+        if (!hasChanges) {
+            return null;
+        }
+        out.write('\n');
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes the smallest single range of {@code oldList} that has to be replaced to turn it into {@code newList} as
+     * the field {@code fieldName}. Writes nothing and returns false if the lists are equal.
+     */
+    private static <T> boolean writeChange(String fieldName, List<T> oldList, List<T> newList,
+                                           ElementWriter<T> elementWriter, JsonGenerator generator)
+            throws IOException {
+        int commonLength = Math.min(oldList.size(), newList.size());
+        int prefix = 0;
+        while (prefix < commonLength && oldList.get(prefix).equals(newList.get(prefix))) {
+            prefix++;
+        }
+        if (prefix == oldList.size() && prefix == newList.size()) {
+            return false;
+        }
+        int suffix = 0;
+        while (suffix < commonLength - prefix
+                && oldList.get(oldList.size() - 1 - suffix).equals(newList.get(newList.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        generator.writeObjectFieldStart(fieldName);
+        generator.writeNumberField("index", prefix);
+        generator.writeNumberField("removed", oldList.size() - prefix - suffix);
+        generator.writeArrayFieldStart("added");
+        for (T element : newList.subList(prefix, newList.size() - suffix)) {
+            elementWriter.writeElement(element, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        return true;
+    }
+
+    private void appendRecord(byte[] record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        unsyncedRecords++;
+        if (unsyncedRecords >= syncBatchSize) {
+            syncJournal();
+        }
+    }
+
+    private void syncJournal() throws IOException {
+        if (journal != null && unsyncedRecords > 0) {
+            journal.force(false);
+        }
+        unsyncedRecords = 0;
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            syncJournal();
+            journal.close();
+        } catch (IOException ioe) {
+            logger.warning("Failed to close journal " + journalPath + ": " + ioe);
+        }
+        journal = null;
+    }
+
+    private Path createSnapshotFile() throws IOException {
+        Path absoluteFilePath = filePath.toAbsolutePath();
+        FileUtil.createParentDirsOfFile(absoluteFilePath);
+        return Files.createTempFile(absoluteFilePath.getParent(), filePath.getFileName().toString(), ".tmp");
+    }
+
+    /**
+     * Writes {@code data} to the snapshot file at {@code snapshotPath} and forces it to the disk.
+     */
+    private SnapshotInfo writeSnapshot(ReadOnlyAddressBook data, Path snapshotPath) throws IOException {
+        CRC32 checksum = new CRC32();
+        try {
+            FileUtil.writeForced(snapshotPath, out -> {
+                try (JsonGenerator generator = JsonUtil.createGenerator(new CheckedOutputStream(out, checksum),
+                        isPrettyPrinted)) {
+                    JsonAddressBookStreamWriter.write(data, generator);
+                }
+            });
+            return new SnapshotInfo(Files.size(snapshotPath), checksum.getValue());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(snapshotPath);
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces the data file with the snapshot file at {@code snapshotPath}, and the journal with one holding
+     * {@code records}.
+     */
+    private void installSnapshot(Path snapshotPath, SnapshotInfo info, List<byte[]> records) throws IOException {
+        // The new journal is written before the data file is replaced, so that the journal belonging to the data file
+        // can be found on the disk however far this gets.
+        closeJournal();
+        writeJournal(newJournalPath, info, records);
+        FileUtil.moveReplacing(snapshotPath, filePath);
+        snapshotInfo = info;
+        snapshotGeneration++;
+        FileUtil.moveReplacing(newJournalPath, journalPath);
+        openJournalForAppending();
+    }
+
+    /**
+     * Replaces the journal with one for the snapshot described by {@code info}, holding {@code records}.
+     */
+    private void installJournal(SnapshotInfo info, List<byte[]> records) throws IOException {
+        closeJournal();
+        writeJournal(newJournalPath, info, records);
+        FileUtil.moveReplacing(newJournalPath, journalPath);
+        openJournalForAppending();
+    }
+
+    private void openJournalForAppending() throws IOException {
+        journal = FileChannel.open(journalPath, StandardOpenOption.WRITE);
+        journal.position(journal.size());
+        unsyncedRecords = 0;
+    }
+
+    private static void writeJournal(Path path, SnapshotInfo info, List<byte[]> records) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(header, false)) {
+            generator.writeStartObject();
+            generator.writeNumberField(SNAPSHOT_LENGTH_FIELD, info.length);
+            generator.writeNumberField(SNAPSHOT_CHECKSUM_FIELD, info.checksum);
+            generator.writeEndObject();
+        }
+        header.write('\n');
+
+        FileUtil.writeForced(path, out -> {
+            header.writeTo(out);
+            for (byte[] record : records) {
+                out.write(record);
+            }
+        });
+    }
+
+    //// compaction
+
+    private void startCompaction(ReadOnlyAddressBook data) {
+        long generation = snapshotGeneration;
+        recordsSinceCompaction = new ArrayList<>();
+        compaction = compactor.submit(() -> compact(data, generation));
+    }
+
+    /**
+     * Writes {@code data} to a new snapshot and, unless the data file has been replaced or read since
+     * {@code generation}, installs it with a journal holding the records saved in the meantime.
+     * Runs on the compactor thread.
+     */
+    private void compact(ReadOnlyAddressBook data, long generation) {
+        Path snapshotPath = null;
+        try {
+            snapshotPath = createSnapshotFile();
+            SnapshotInfo info = writeSnapshot(data, snapshotPath);
+            synchronized (this) {
+                if (generation == snapshotGeneration) {
+                    try {
+                        installSnapshot(snapshotPath, info, recordsSinceCompaction);
+                        snapshotPath = null;
+                        logger.fine("Compacted journal " + journalPath);
+                    } catch (IOException ioe) {
+                        savedData = null;
+                        throw ioe;
+                    }
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact journal " + journalPath + ": " + ioe);
+        } finally {
+            synchronized (this) {
+                compaction = null;
+                recordsSinceCompaction = null;
+            }
+            if (snapshotPath != null) {
+                try {
+                    Files.deleteIfExists(snapshotPath);
+                } catch (IOException ioe) {
+                    logger.warning("Failed to delete " + snapshotPath + ": " + ioe);
+                }
+            }
+        }
+    }
+
+    /**
+     * The length and checksum of a snapshot, which identify the snapshot a journal belongs to.
+     */
+    private static class SnapshotInfo {
+        private final long length;
+        private final long checksum;
+
+        SnapshotInfo(long length, long checksum) {
+            this.length = length;
+            this.checksum = checksum;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof SnapshotInfo)) {
+                return false;
+            }
+
+            SnapshotInfo otherInfo = (SnapshotInfo) other;
+            return length == otherInfo.length && checksum == otherInfo.checksum;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(length) * 31 + Long.hashCode(checksum);
+        }
+    }
+
+    /**
+     * Reads the list element that the parser is currently positioned at.
+     */
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T readElement() throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes a list element as a JSON value.
+     */
+    @FunctionalInterface
+    private interface ElementWriter<T> {
+        void writeElement(T element, JsonGenerator generator) throws IOException;
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.company.Company;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book JSON file in the format of {@link JsonSerializableAddressBook} one record at a time.
+ * Each person, job and company is handed over for conversion into its model type as soon as it has been parsed, and
+ * is converted on a fork-join pool while the rest of the file is parsed, so the file is never held in memory as a
+ * whole, neither as text nor as a tree of Jackson-friendly objects. Files compressed with gzip are recognised by their
+ * header and decompressed as they are read.
+ */
+class JsonAddressBookStreamReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data must be a JSON object.";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Address book field '%s' must be a JSON array.";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ParallelRecordConverter<JsonAdaptedPerson, Person> personConverter =
+            new ParallelRecordConverter<>(JsonAdaptedPerson::toModelType);
+    private final ParallelRecordConverter<JsonAdaptedJob, Job> jobConverter =
+            new ParallelRecordConverter<>(JsonAdaptedJob::toModelType);
+    private final ParallelRecordConverter<JsonAdaptedCompany, Company> companyConverter =
+            new ParallelRecordConverter<>(JsonAdaptedCompany::toModelType);
+    /** The converters of the sections in the order in which they appear in the file. */
+    private final List<ParallelRecordConverter<?, ?>> sectionOrder = new ArrayList<>();
+
+    private List<Person> persons;
+    private List<Job> jobs;
+    private List<Company> companies;
+
+    private JsonAddressBookStreamReader() {
+    }
+
+    /**
+     * Reads the address book stored at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+                InputStream in = Channels.newInputStream(channel)) {
+            JsonAddressBookStreamReader reader = readRecords(in);
+            return JsonSerializableAddressBook.toModelType(reader.companies, reader.jobs, reader.persons);
+        }
+    }
+
+    /**
+     * Reads the persons, jobs and companies in the address book JSON object at the start of {@code in}, without
+     * checking for duplicates or references between them. {@code in} is left open.
+     *
+     * @throws IOException if {@code in} cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated by a single record.
+     */
+    static JsonAddressBookStreamReader readRecords(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(decompressIfNeeded(in))) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader();
+            reader.readRoot(parser);
+            reader.finishConversion();
+            return reader;
+        }
+    }
+
+    /**
+     * Returns a stream of the JSON text in {@code in}, which is decompressed if it starts with a gzip header.
+     * JSON text cannot start with the first byte of a gzip header, so plain and compressed files are told apart
+     * without being misread.
+     */
+    private static InputStream decompressIfNeeded(InputStream in) throws IOException {
+        BufferedInputStream bufferedIn = new BufferedInputStream(in, BUFFER_SIZE);
+        bufferedIn.mark(2);
+        int header = bufferedIn.read() | (bufferedIn.read() << 8);
+        bufferedIn.reset();
+        return header == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(bufferedIn, BUFFER_SIZE) : bufferedIn;
+    }
+
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    List<Job> getJobs() {
+        return jobs;
+    }
+
+    List<Company> getCompanies() {
+        return companies;
+    }
+
+    private void readRoot(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+            case "persons":
+                readArray(parser, fieldName, valueToken, personConverter, () ->
+                        personConverter.add(parser.readValueAs(JsonAdaptedPerson.class)));
+                break;
+            case "jobs":
+                readArray(parser, fieldName, valueToken, jobConverter, () ->
+                        jobConverter.add(parser.readValueAs(JsonAdaptedJob.class)));
+                break;
+            case "companies":
+                readArray(parser, fieldName, valueToken, companyConverter, () ->
+                        companyConverter.add(parser.readValueAs(JsonAdaptedCompany.class)));
+                break;
+            default:
+                // Unknown fields are ignored, as they are when the file is read with JsonUtil.
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Waits for the conversion of all records, so that if several records violate data constraints, the error of the
+     * first of them in the file is reported.
+     */
+    private void finishConversion() throws IllegalValueException {
+        for (ParallelRecordConverter<?, ?> sectionConverter : sectionOrder) {
+            if (sectionConverter == personConverter) {
+                persons = personConverter.finish();
+            } else if (sectionConverter == jobConverter) {
+                jobs = jobConverter.finish();
+            } else {
+                companies = companyConverter.finish();
+            }
+        }
+        // Sections missing from the file are empty.
+        if (persons == null) {
+            persons = personConverter.finish();
+        }
+        if (jobs == null) {
+            jobs = jobConverter.finish();
+        }
+        if (companies == null) {
+            companies = companyConverter.finish();
+        }
+    }
+
+    /**
+     * Calls {@code elementReader} once for every element of the array that {@code parser} is positioned at, which
+     * hands the element over to {@code sectionConverter}.
+     * A {@code null} in place of the array is treated as an empty array.
+     */
+    private void readArray(JsonParser parser, String fieldName, JsonToken valueToken,
+                           ParallelRecordConverter<?, ?> sectionConverter, ElementReader elementReader)
+            throws IOException {
+        if (valueToken == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (valueToken != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+        if (!sectionOrder.contains(sectionConverter)) {
+            sectionOrder.add(sectionConverter);
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elementReader.readElement();
+        }
+    }
+
+    /**
+     * Reads the array element that the parser is currently positioned at.
+     */
+    @FunctionalInterface
+    private interface ElementReader {
+        void readElement() throws IOException;
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.company.Company;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book to a JSON file in the format of {@link JsonSerializableAddressBook}, straight from the
+ * model objects and one record at a time.
+ * Neither a {@code JsonSerializableAddressBook} copy of the address book nor the whole JSON text is ever built in
+ * memory. The field names and their order are the same as those written by Jackson for the JsonAdapted classes.
+ */
+class JsonAddressBookStreamWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private JsonAddressBookStreamWriter() {
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the current contents of the file.
+     * Like every file written by this class, the file is replaced atomically through a temporary file, see
+     * {@link FileUtil#writeAtomically(Path, FileUtil.ContentWriter)}.
+     *
+     * @param isPrettyPrinted whether the JSON should be indented for human readers.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted)
+            throws IOException {
+        write(addressBook, filePath, isPrettyPrinted, false);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the current contents of the file.
+     *
+     * @param isPrettyPrinted whether the JSON should be indented for human readers.
+     * @param isCompressed whether the JSON should be compressed with gzip.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted,
+                             boolean isCompressed) throws IOException {
+        requireNonNull(addressBook);
+        writeFile(filePath, isPrettyPrinted, isCompressed, generator -> write(addressBook, generator));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the current contents of the file, and copying the
+     * text of records from {@code fragmentCache} where they are unchanged since the last save with it.
+     *
+     * @param isPrettyPrinted whether the JSON should be indented for human readers. Must be the same as for
+     *     {@code fragmentCache}.
+     * @param isCompressed whether the JSON should be compressed with gzip.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted, boolean isCompressed,
+                      JsonFragmentCache fragmentCache) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(fragmentCache);
+        try {
+            writeFile(filePath, isPrettyPrinted, isCompressed, generator -> write(addressBook, generator,
+                    fragmentCache.cached(JsonAddressBookStreamWriter::writePerson),
+                    fragmentCache.cached(JsonAddressBookStreamWriter::writeJob),
+                    fragmentCache.cached(JsonAddressBookStreamWriter::writeCompany)));
+        } catch (IOException | RuntimeException e) {
+            fragmentCache.discardWritten();
+            throw e;
+        }
+        fragmentCache.retainWritten();
+    }
+
+    /**
+     * Writes {@code addressBook} as a single JSON object to {@code generator}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, JsonGenerator generator) throws IOException {
+        write(addressBook, generator, JsonAddressBookStreamWriter::writePerson, JsonAddressBookStreamWriter::writeJob,
+                JsonAddressBookStreamWriter::writeCompany);
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, JsonGenerator generator,
+                              RecordWriter<Person> personWriter, RecordWriter<Job> jobWriter,
+                              RecordWriter<Company> companyWriter) throws IOException {
+        generator.writeStartObject();
+        writeArrayField("persons", addressBook.getPersonList(), personWriter, generator);
+        writeArrayField("jobs", addressBook.getJobList(), jobWriter, generator);
+        writeArrayField("companies", addressBook.getCompanyList(), companyWriter, generator);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code records} to {@code filePath} as a JSON object whose only field is the list {@code fieldName},
+     * replacing the current contents of the file. The file can be read in the same way as a whole address book.
+     *
+     * @param isPrettyPrinted whether the JSON should be indented for human readers.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static <T> void writeSection(String fieldName, List<? extends T> records, RecordWriter<T> recordWriter,
+                                 Path filePath, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(records);
+        writeFile(filePath, isPrettyPrinted, false, generator -> {
+            generator.writeStartObject();
+            writeArrayField(fieldName, records, recordWriter, generator);
+            generator.writeEndObject();
+        });
+    }
+
+    private static void writeFile(Path filePath, boolean isPrettyPrinted, boolean isCompressed,
+                                  GeneratorWriter generatorWriter) throws IOException {
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(
+                    isCompressed ? new GZIPOutputStream(out, BUFFER_SIZE) : out, isPrettyPrinted)) {
+                generatorWriter.write(generator);
+            }
+        });
+    }
+
+    private static <T> void writeArrayField(String fieldName, List<? extends T> records, RecordWriter<T> recordWriter,
+                                            JsonGenerator generator) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T record : records) {
+            recordWriter.write(record, generator);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes {@code person} as a JSON object in the format of {@link JsonAdaptedPerson}.
+     */
+    static void writePerson(Person person, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("role", person.getRole().value);
+        generator.writeArrayFieldStart("skills");
+        for (Skill skill : person.getSkills()) {
+            generator.writeString(skill.skillName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("match", person.getMatch().orElse(null));
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code job} as a JSON object in the format of {@link JsonAdaptedJob}.
+     */
+    static void writeJob(Job job, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", job.getName().fullName);
+        generator.writeStringField("company", job.getCompany().fullName);
+        generator.writeStringField("salary", String.valueOf(job.getSalary().value));
+        generator.writeStringField("description", job.getDescription().value);
+        generator.writeArrayFieldStart("requirements");
+        for (Tag requirement : job.getRequirements()) {
+            generator.writeString(requirement.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code company} as a JSON object in the format of {@link JsonAdaptedCompany}.
+     */
+    static void writeCompany(Company company, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", company.getName().fullName);
+        generator.writeStringField("address", company.getAddress().value);
+        generator.writeStringField("phone", company.getPhone().value);
+        generator.writeStringField("billingDate", company.getBillingDate().date);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a single record as a JSON object.
+     */
+    @FunctionalInterface
+    interface RecordWriter<T> {
+        void write(T record, JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Writes the contents of a whole file.
+     */
+    @FunctionalInterface
+    private interface GeneratorWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Keeps the JSON text of the persons, jobs and companies written by one save, so that the next save can copy the text
+ * of every record that has not been replaced instead of encoding it again.
+ * <p>
+ * Model objects are immutable, so the text of an object never goes stale. Records are looked up by identity rather
+ * than equality, which is both cheaper and exact: an edited record is always a new object. Only the records of the
+ * latest save are kept, so records that have since been removed from the address book are not held on to.
+ * <p>
+ * The text of a record is encoded as an element of a list in the root object, with the same pretty printing as the
+ * file it is copied into, so a file written with the cache is the same as one written without it.
+ */
+class JsonFragmentCache {
+
+    private final boolean isPrettyPrinted;
+    private Map<Object, String> savedFragments = new IdentityHashMap<>();
+    private Map<Object, String> writtenFragments = new IdentityHashMap<>();
+
+    JsonFragmentCache(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Returns a record writer that copies the cached text of records where there is one, and encodes the others with
+     * {@code recordWriter}.
+     */
+    <T> JsonAddressBookStreamWriter.RecordWriter<T> cached(JsonAddressBookStreamWriter.RecordWriter<T> recordWriter) {
+        return new CachingRecordWriter<>(recordWriter);
+    }
+
+    /**
+     * Keeps the text of the records written since the last call, and drops that of all other records.
+     * To be called once a save has completed.
+     */
+    void retainWritten() {
+        savedFragments = writtenFragments;
+        writtenFragments = new IdentityHashMap<>();
+    }
+
+    /**
+     * Drops the text of the records written since the last call, keeping that of the last completed save.
+     * To be called if a save has failed.
+     */
+    void discardWritten() {
+        writtenFragments = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns the number of records whose text is kept.
+     */
+    int size() {
+        return savedFragments.size();
+    }
+
+    /**
+     * Copies the cached text of records, and encodes the records without one in a generator of its own.
+     */
+    private class CachingRecordWriter<T> implements JsonAddressBookStreamWriter.RecordWriter<T> {
+        private final JsonAddressBookStreamWriter.RecordWriter<T> recordWriter;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private JsonGenerator fragmentGenerator;
+
+        CachingRecordWriter(JsonAddressBookStreamWriter.RecordWriter<T> recordWriter) {
+            this.recordWriter = recordWriter;
+        }
+
+        @Override
+        public void write(T record, JsonGenerator generator) throws IOException {
+            String fragment = savedFragments.get(record);
+            if (fragment == null) {
+                fragment = encode(record);
+            }
+            writtenFragments.put(record, fragment);
+            generator.writeRawValue(fragment);
+        }
+
+        /**
+         * Encodes {@code record} at the same depth as the records of an address book file.
+         */
+        private String encode(T record) throws IOException {
+            if (fragmentGenerator == null) {
+                fragmentGenerator = JsonUtil.createGenerator(buffer, isPrettyPrinted);
+                fragmentGenerator.writeStartObject();
+                fragmentGenerator.writeArrayFieldStart("records");
+                fragmentGenerator.flush();
+            }
+            buffer.reset();
+            recordWriter.write(record, fragmentGenerator);
+            fragmentGenerator.flush();
+
+            // Drop the separator written before the record, which the generator of the file writes by itself.
+            String fragment = new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+            return fragment.substring(fragment.indexOf('{'));
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -14,7 +16,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.company.Company;
 import seedu.address.model.company.exceptions.CompanyNotFoundException;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.exceptions.JobNotFoundException;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -67,36 +72,63 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The records of each list are converted in parallel; see {@link ParallelRecordConverter}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException, CompanyNotFoundException {
-        AddressBook addressBook = new AddressBook();
+        List<Company> companyList = ParallelRecordConverter.convertAll(companies, JsonAdaptedCompany::toModelType);
+        List<Job> jobList = ParallelRecordConverter.convertAll(jobs, JsonAdaptedJob::toModelType);
+        List<Person> personList = ParallelRecordConverter.convertAll(persons, JsonAdaptedPerson::toModelType);
+
+        return toModelType(companyList, jobList, personList);
+    }
 
-        for (JsonAdaptedCompany jsonAdaptedCompany : companies) {
-            Company company = jsonAdaptedCompany.toModelType();
-            if (addressBook.hasCompany(company)) {
+    /**
+     * Assembles already converted companies, jobs and persons into the model's {@code AddressBook} object.
+     * Duplicates and references between entities are checked against hash sets built over the whole batch, and each
+     * list is then filled in a single bulk operation, so that loading takes time linear in the number of records.
+     *
+     * @throws IllegalValueException if there are duplicate companies, jobs or persons.
+     * @throws CompanyNotFoundException if a job refers to a company that is not in {@code companyList}.
+     * @throws JobNotFoundException if a person is matched to a job that is not in {@code jobList}.
+     */
+    static AddressBook toModelType(List<Company> companyList, List<Job> jobList, List<Person> personList)
+            throws IllegalValueException {
+        Set<String> companyNames = new HashSet<>();
+        for (Company company : companyList) {
+            if (!companyNames.add(company.getName().toCaseInsensitiveKey())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_COMPANY);
             }
-            addressBook.addCompany(company);
         }
 
-        for (JsonAdaptedJob jsonAdaptedJob : jobs) {
-            Job job = jsonAdaptedJob.toModelType();
-            if (addressBook.hasJob(job)) {
+        Set<String> jobKeys = new HashSet<>();
+        Set<String> jobIdentifiers = new HashSet<>();
+        for (Job job : jobList) {
+            if (!jobKeys.add(job.getCaseInsensitiveIdentifier())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_JOB);
             }
-            addressBook.addJob(job); // this can throw CompanyNotFoundException
+            if (!companyNames.contains(job.getCompany().toCaseInsensitiveKey())) {
+                throw new CompanyNotFoundException();
+            }
+            jobIdentifiers.add(job.getIdentifier());
         }
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+        Set<Email> emails = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        for (Person person : personList) {
+            if (!emails.add(person.getEmail()) || !phones.add(person.getPhone())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            if (person.isMatchPresent() && !jobIdentifiers.contains(person.getMatch().get())) {
+                throw new JobNotFoundException(person.getMatch().get());
+            }
         }
 
+        AddressBook addressBook = new AddressBook();
+        addressBook.setCompanies(companyList);
+        addressBook.setJobs(jobList);
+        addressBook.setPersons(personList);
         return addressBook;
     }
 
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts a sequence of Jackson-friendly records into their model types on a fork-join pool.
+ * Records are grouped into chunks, and each full chunk is submitted as soon as its last record has been added, so
+ * conversion overlaps with the parsing of the records after it. The converted records are returned in the order in
+ * which they were added, and if any record cannot be converted, the error of the first such record in that order is
+ * reported, no matter which chunk finished first.
+ *
+ * @param <A> the type of the Jackson-friendly records.
+ * @param <T> the model type that the records are converted into.
+ */
+class ParallelRecordConverter<A, T> {
+
+    /** Number of records converted by one task. Large enough that the cost of a task is negligible. */
+    static final int CHUNK_SIZE = 256;
+
+    private final Converter<A, T> converter;
+    private final ForkJoinPool pool;
+    private final List<ForkJoinTask<Chunk<T>>> submittedChunks = new ArrayList<>();
+    private List<A> pendingRecords = new ArrayList<>();
+
+    /**
+     * Creates a converter that converts records with {@code converter} on the common fork-join pool.
+     */
+    ParallelRecordConverter(Converter<A, T> converter) {
+        this(converter, ForkJoinPool.commonPool());
+    }
+
+    ParallelRecordConverter(Converter<A, T> converter, ForkJoinPool pool) {
+        requireNonNull(converter);
+        requireNonNull(pool);
+        this.converter = converter;
+        this.pool = pool;
+    }
+
+    /**
+     * Converts every record in {@code records} into its model type.
+     *
+     * @throws IllegalValueException if a record violates any data constraints. If several records do, the error of
+     *     the first of them in {@code records} is thrown.
+     */
+    static <A, T> List<T> convertAll(List<A> records, Converter<A, T> converter) throws IllegalValueException {
+        ParallelRecordConverter<A, T> parallelConverter = new ParallelRecordConverter<>(converter);
+        for (A record : records) {
+            parallelConverter.add(record);
+        }
+        return parallelConverter.finish();
+    }
+
+    /**
+     * Adds {@code record} to be converted after all records added before it.
+     */
+    void add(A record) {
+        requireNonNull(record);
+        pendingRecords.add(record);
+        if (pendingRecords.size() == CHUNK_SIZE) {
+            List<A> chunkRecords = pendingRecords;
+            submittedChunks.add(pool.submit(() -> convertChunk(chunkRecords)));
+            pendingRecords = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Waits for all added records to be converted and returns them in the order in which they were added.
+     * The last, partial chunk is converted on the calling thread, so an address book with fewer records than
+     * {@link #CHUNK_SIZE} is converted without involving the pool at all.
+     *
+     * @throws IllegalValueException if a record violates any data constraints. If several records do, the error of
+     *     the one added first is thrown.
+     */
+    List<T> finish() throws IllegalValueException {
+        Chunk<T> lastChunk = convertChunk(pendingRecords);
+        pendingRecords = new ArrayList<>();
+
+        List<T> converted = new ArrayList<>(submittedChunks.size() * CHUNK_SIZE + lastChunk.converted.size());
+        try {
+            for (ForkJoinTask<Chunk<T>> submittedChunk : submittedChunks) {
+                addAllOrThrow(submittedChunk.join(), converted);
+            }
+            addAllOrThrow(lastChunk, converted);
+        } finally {
+            // Only reached with chunks still running if one of the earlier chunks failed.
+            submittedChunks.forEach(chunk -> chunk.cancel(false));
+            submittedChunks.clear();
+        }
+        return converted;
+    }
+
+    private static <T> void addAllOrThrow(Chunk<T> chunk, List<T> converted) throws IllegalValueException {
+        if (chunk.failure instanceof IllegalValueException) {
+            throw (IllegalValueException) chunk.failure;
+        }
+        if (chunk.failure != null) {
+            throw (RuntimeException) chunk.failure;
+        }
+        converted.addAll(chunk.converted);
+    }
+
+    /**
+     * Converts {@code records} in order, stopping at the first record that cannot be converted.
+     * Runtime exceptions are caught as well, so that they too are reported in the order of the records.
+     */
+    private Chunk<T> convertChunk(List<A> records) {
+        List<T> converted = new ArrayList<>(records.size());
+        for (A record : records) {
+            try {
+                converted.add(converter.convert(record));
+            } catch (IllegalValueException | RuntimeException e) {
+                return new Chunk<>(converted, e);
+            }
+        }
+        return new Chunk<>(converted, null);
+    }
+
+    /**
+     * The records of one chunk that were converted, and the error that stopped the conversion, if any.
+     */
+    private static class Chunk<T> {
+        private final List<T> converted;
+        private final Exception failure;
+
+        Chunk(List<T> converted, Exception failure) {
+            this.converted = converted;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Converts a single Jackson-friendly record into its model type.
+     */
+    @FunctionalInterface
+    interface Converter<A, T> {
+        T convert(A record) throws IllegalValueException;
+    }
+}
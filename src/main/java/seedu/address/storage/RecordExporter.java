@@ -0,0 +1,217 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.company.Company;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * Exports contacts, jobs or companies to a CSV or JSON Lines file.
+ * <p>
+ * Records are written one at a time through a buffer, so nothing but the record being written is held in memory. CSV
+ * files have the columns read by {@link CsvAddressBookImporter}, so they can be imported again. Each line of a JSON
+ * Lines file is a record in the format of the data file. Like the data file, the file is replaced atomically, so an
+ * export that fails leaves no partly written file behind.
+ *
+ * @param <T> the type of the records exported.
+ */
+public class RecordExporter<T> {
+
+    private static final Logger logger = LogsCenter.getLogger(RecordExporter.class);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final List<String> columns;
+    private final Function<T, List<String>> csvFieldsOf;
+    private final JsonAddressBookStreamWriter.RecordWriter<T> jsonWriter;
+
+    private RecordExporter(List<String> columns, Function<T, List<String>> csvFieldsOf,
+            JsonAddressBookStreamWriter.RecordWriter<T> jsonWriter) {
+        this.columns = columns;
+        this.csvFieldsOf = csvFieldsOf;
+        this.jsonWriter = jsonWriter;
+    }
+
+    /**
+     * Returns an exporter of contacts.
+     */
+    public static RecordExporter<Person> forPersons() {
+        return new RecordExporter<>(CsvAddressBookImporter.PERSON_COLUMNS, person -> List.of(
+                person.getName().fullName, person.getPhone().value, person.getEmail().value, person.getRole().value,
+                person.getSkills().stream().map(skill -> skill.skillName).sorted().collect(joiningValues()),
+                person.getMatch().orElse("")), JsonAddressBookStreamWriter::writePerson);
+    }
+
+    /**
+     * Returns an exporter of jobs.
+     */
+    public static RecordExporter<Job> forJobs() {
+        return new RecordExporter<>(CsvAddressBookImporter.JOB_COLUMNS, job -> List.of(
+                job.getName().fullName, job.getCompany().fullName, String.valueOf(job.getSalary().value),
+                job.getDescription().value,
+                job.getRequirements().stream().map(tag -> tag.tagName).sorted().collect(joiningValues())),
+                JsonAddressBookStreamWriter::writeJob);
+    }
+
+    /**
+     * Returns an exporter of companies.
+     */
+    public static RecordExporter<Company> forCompanies() {
+        return new RecordExporter<>(CsvAddressBookImporter.COMPANY_COLUMNS, company -> List.of(
+                company.getName().fullName, company.getAddress().value, company.getBillingDate().date,
+                company.getPhone().value), JsonAddressBookStreamWriter::writeCompany);
+    }
+
+    /**
+     * Writes {@code records} to {@code file} in {@code format}, replacing the current contents of the file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public Result export(Iterable<? extends T> records, Path file, Format format) throws IOException {
+        requireNonNull(records);
+        requireNonNull(file);
+        requireNonNull(format);
+
+        long[] counts = new long[2];
+        FileUtil.writeAtomically(file, out -> {
+            CountingOutputStream countingOut = new CountingOutputStream(out);
+            counts[0] = format == Format.CSV ? writeCsv(records, countingOut) : writeJsonLines(records, countingOut);
+            counts[1] = countingOut.getCount();
+        });
+        logger.info(String.format("Exported %d records to %s", counts[0], file));
+        return new Result((int) counts[0], counts[1]);
+    }
+
+    private int writeCsv(Iterable<? extends T> records, OutputStream out) throws IOException {
+        int count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try (CsvWriter csvWriter = new CsvWriter(writer)) {
+            csvWriter.writeRecord(columns);
+            for (T record : records) {
+                csvWriter.writeRecord(csvFieldsOf.apply(record));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int writeJsonLines(Iterable<? extends T> records, OutputStream out) throws IOException {
+        int count = 0;
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, false)) {
+            // Records are separated by the line breaks written after them, not by the default space.
+            generator.setRootValueSeparator(null);
+            for (T record : records) {
+                jsonWriter.write(record, generator);
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Collector<CharSequence, ?, String> joiningValues() {
+        return Collectors.joining(CsvAddressBookImporter.VALUE_SEPARATOR + " ");
+    }
+
+    /**
+     * The formats that records can be exported in.
+     */
+    public enum Format {
+        CSV(".csv"),
+        JSON_LINES(".jsonl");
+
+        private final String fileExtension;
+
+        Format(String fileExtension) {
+            this.fileExtension = fileExtension;
+        }
+
+        public String getFileExtension() {
+            return fileExtension;
+        }
+
+        /**
+         * Returns the format of files with the extension of {@code file}, if there is one.
+         */
+        public static Optional<Format> of(Path file) {
+            String fileName = file.getFileName() == null ? "" : file.getFileName().toString().toLowerCase(Locale.ROOT);
+            for (Format format : values()) {
+                if (fileName.endsWith(format.fileExtension)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The number of records exported, and the number of bytes written.
+     */
+    public static class Result {
+        private final int recordCount;
+        private final long byteCount;
+
+        Result(int recordCount, long byteCount) {
+            this.recordCount = recordCount;
+            this.byteCount = byteCount;
+        }
+
+        public int getRecordCount() {
+            return recordCount;
+        }
+
+        public long getByteCount() {
+            return byteCount;
+        }
+    }
+
+    /**
+     * An output stream that counts the bytes written through it.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
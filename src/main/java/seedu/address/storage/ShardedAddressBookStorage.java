@@ -0,0 +1,476 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.exceptions.CompanyNotFoundException;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.exceptions.JobNotFoundException;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a directory of json files on the hard disk, one for the companies, one
+ * for the jobs and one or more for the persons.
+ * <p>
+ * Each file is in the format of {@link JsonSerializableAddressBook}, holding only its own list. Persons are spread
+ * over the person files by the hash of their email. As that loses the order of the persons, the emails are also
+ * listed in order in {@link #PERSON_ORDER_FILE} when there is more than one person file.
+ * <p>
+ * The files actually written are named after the save that wrote them, such as {@code persons-0.7.json} for
+ * {@link #PERSONS_FILE_FORMAT persons-0.json} written by the seventh save, and {@link #MANIFEST_FILE} lists the
+ * files that make up the address book. On save, only the files whose contents differ from what was last read from or
+ * written to them are written again, under new names, and the manifest is then replaced in one atomic move. A save
+ * that is interrupted therefore leaves the previous address book in place. Files no longer in the manifest are
+ * deleted after it has been replaced. On read, the files listed in the manifest are read in parallel.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".shards";
+    public static final String COMPANIES_FILE = "companies.json";
+    public static final String JOBS_FILE = "jobs.json";
+    public static final String PERSONS_FILE_FORMAT = "persons-%d.json";
+    public static final String PERSON_ORDER_FILE = "person-order.json";
+    public static final String MANIFEST_FILE = "manifest.json";
+
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "There must be at least one person file.";
+    public static final String MESSAGE_INVALID_PERSON_ORDER = "Person order must be a JSON object with an array of "
+            + "emails.";
+    public static final String MESSAGE_INVALID_MANIFEST = "Manifest must list the data files of the address book.";
+
+    private static final Pattern PERSONS_FILE_PATTERN = Pattern.compile("persons-(\\d+)\\.json");
+    private static final Pattern SHARD_FILE_PATTERN = Pattern.compile("(companies|jobs|persons-\\d+|person-order)"
+            + "\\.json");
+    private static final Pattern DATA_FILE_PATTERN = Pattern.compile("(companies|jobs|persons-\\d+|person-order)"
+            + "(\\.\\d+)?\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path directoryPath;
+    private final boolean isPrettyPrinted;
+    private final int personShardCount;
+
+    /** Records last read from or written to each file in {@code directoryPath}, by file name. */
+    private final Map<String, List<?>> savedShards = new HashMap<>();
+
+    public ShardedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, true, 1);
+    }
+
+    /**
+     * Creates a storage for the address book in {@code directoryPath}, with its persons spread over
+     * {@code personShardCount} files.
+     */
+    public ShardedAddressBookStorage(Path directoryPath, boolean isPrettyPrinted, int personShardCount) {
+        requireNonNull(directoryPath);
+        checkArgument(personShardCount > 0, MESSAGE_INVALID_SHARD_COUNT);
+        this.directoryPath = directoryPath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.personShardCount = personShardCount;
+    }
+
+    /**
+     * Returns the path of the data directory to use in place of the json data file at {@code jsonFilePath}.
+     */
+    public static Path toShardDirectoryPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + DIRECTORY_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Returns {@code Optional.empty()} if the directory has no manifest.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath)
+            throws DataLoadingException {
+        requireNonNull(directoryPath);
+
+        if (!Files.exists(directoryPath.resolve(MANIFEST_FILE))) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(directoryPath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data directory " + directoryPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (CompanyNotFoundException cnfe) {
+            logger.info("Job associated with non-existent company in " + directoryPath + ": " + cnfe.getMessage());
+            throw new DataLoadingException(cnfe);
+        } catch (JobNotFoundException jnfe) {
+            logger.info("Person associated with non-existent job in " + directoryPath + ": " + jnfe.getMessage());
+            throw new DataLoadingException(jnfe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the files of this storage's own directory are ever skipped as unchanged.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+
+        boolean isOwnDirectory = directoryPath.equals(this.directoryPath);
+        Files.createDirectories(directoryPath);
+
+        Optional<Manifest> manifest = readManifest(directoryPath);
+        Map<String, String> savedFiles = manifest.isPresent() ? manifest.get().files : Map.of();
+        long generation = manifest.map(m -> m.generation).orElse(0L) + 1;
+
+        Map<String, String> files = new LinkedHashMap<>();
+        Map<String, List<?>> writtenShards = new HashMap<>();
+        Map<String, Shard<?>> shards = toShards(addressBook);
+        for (Map.Entry<String, Shard<?>> shard : shards.entrySet()) {
+            String shardName = shard.getKey();
+            List<?> records = shard.getValue().records;
+            if (isOwnDirectory && records.equals(savedShards.get(shardName)) && savedFiles.containsKey(shardName)) {
+                files.put(shardName, savedFiles.get(shardName));
+                continue;
+            }
+            String fileName = toGenerationFileName(shardName, generation);
+            shard.getValue().write(directoryPath.resolve(fileName), isPrettyPrinted);
+            files.put(shardName, fileName);
+            writtenShards.put(shardName, records);
+        }
+
+        // Until the manifest is replaced, the directory still holds the previous address book.
+        FileUtil.writeToFile(directoryPath.resolve(MANIFEST_FILE), JsonUtil.toJsonString(new Manifest(generation,
+                files)));
+        if (isOwnDirectory) {
+            savedShards.keySet().retainAll(files.keySet());
+            savedShards.putAll(writtenShards);
+        }
+        deleteUnlistedFiles(directoryPath, files.values());
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is never anything left to flush.
+    }
+
+    /**
+     * Splits {@code addressBook} into the files to be written, by file name.
+     */
+    private Map<String, Shard<?>> toShards(ReadOnlyAddressBook addressBook) {
+        Map<String, Shard<?>> shards = new LinkedHashMap<>();
+        shards.put(COMPANIES_FILE, new Shard<>("companies", new ArrayList<>(addressBook.getCompanyList()),
+                JsonAddressBookStreamWriter::writeCompany));
+        shards.put(JOBS_FILE, new Shard<>("jobs", new ArrayList<>(addressBook.getJobList()),
+                JsonAddressBookStreamWriter::writeJob));
+
+        List<List<Person>> personShards = new ArrayList<>();
+        for (int i = 0; i < personShardCount; i++) {
+            personShards.add(new ArrayList<>());
+        }
+        List<String> personOrder = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            personShards.get(getPersonShard(person)).add(person);
+            personOrder.add(person.getEmail().value);
+        }
+        for (int i = 0; i < personShardCount; i++) {
+            shards.put(String.format(PERSONS_FILE_FORMAT, i), new Shard<>("persons", personShards.get(i),
+                    JsonAddressBookStreamWriter::writePerson));
+        }
+        if (personShardCount > 1) {
+            shards.put(PERSON_ORDER_FILE, new Shard<>("emails", personOrder, (email, generator) ->
+                    generator.writeString(email)));
+        }
+        return shards;
+    }
+
+    private int getPersonShard(Person person) {
+        return Math.floorMod(person.getEmail().value.hashCode(), personShardCount);
+    }
+
+    /**
+     * Returns the name of the file that the contents of {@code shardName} are written to by save {@code generation}.
+     */
+    private static String toGenerationFileName(String shardName, long generation) {
+        return shardName.substring(0, shardName.length() - ".json".length()) + "." + generation + ".json";
+    }
+
+    /**
+     * Deletes the data files in {@code directoryPath} other than {@code fileNames}, left over from earlier or
+     * interrupted saves. Failing to delete them is only logged, as the address book has been saved by then.
+     */
+    private static void deleteUnlistedFiles(Path directoryPath, Collection<String> fileNames) {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directoryPath, "*.json")) {
+            for (Path filePath : stream) {
+                String fileName = filePath.getFileName().toString();
+                if (DATA_FILE_PATTERN.matcher(fileName).matches() && !fileNames.contains(fileName)) {
+                    Files.deleteIfExists(filePath);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error deleting left over data files in " + directoryPath + ": " + ioe);
+        }
+    }
+
+    /**
+     * Reads the address book stored in {@code directoryPath}, reading its files in parallel.
+     *
+     * @throws IOException if a file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private AddressBook read(Path directoryPath) throws IOException, IllegalValueException {
+        Map<String, Path> files = resolveFiles(directoryPath);
+        Path personOrderPath = files.remove(PERSON_ORDER_FILE);
+        List<String> shardNames = new ArrayList<>(files.keySet());
+        List<Path> filePaths = new ArrayList<>(files.values());
+
+        List<ForkJoinTask<LoadedShard>> loadingShards = new ArrayList<>();
+        for (Path filePath : filePaths) {
+            loadingShards.add(ForkJoinPool.commonPool().submit(() -> LoadedShard.load(filePath)));
+        }
+
+        // Errors are reported in the order of the files, whichever file finished first.
+        Map<String, List<?>> readShards = new HashMap<>();
+        List<Company> companies = new ArrayList<>();
+        List<Job> jobs = new ArrayList<>();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < filePaths.size(); i++) {
+            JsonAddressBookStreamReader records = loadingShards.get(i).join().getRecords();
+            String fileName = shardNames.get(i);
+            companies.addAll(records.getCompanies());
+            jobs.addAll(records.getJobs());
+            persons.addAll(records.getPersons());
+            readShards.put(fileName, fileName.equals(COMPANIES_FILE) ? records.getCompanies()
+                    : fileName.equals(JOBS_FILE) ? records.getJobs() : records.getPersons());
+        }
+
+        if (personOrderPath != null) {
+            List<String> personOrder = readPersonOrder(personOrderPath);
+            sortPersons(persons, personOrder);
+            readShards.put(PERSON_ORDER_FILE, personOrder);
+        }
+
+        AddressBook addressBook = JsonSerializableAddressBook.toModelType(companies, jobs, persons);
+        if (directoryPath.equals(this.directoryPath)) {
+            savedShards.clear();
+            savedShards.putAll(readShards);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Sorts {@code persons} by the position of their emails in {@code personOrder}. Persons whose emails are not
+     * listed are placed last.
+     */
+    private static void sortPersons(List<Person> persons, List<String> personOrder) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < personOrder.size(); i++) {
+            positions.putIfAbsent(personOrder.get(i), i);
+        }
+        persons.sort(Comparator.comparingInt(person ->
+                positions.getOrDefault(person.getEmail().value, Integer.MAX_VALUE)));
+    }
+
+    private static List<String> readPersonOrder(Path filePath) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME
+                    || parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_INVALID_PERSON_ORDER);
+            }
+            List<String> emails = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.VALUE_STRING) {
+                emails.add(parser.getText());
+            }
+            if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_INVALID_PERSON_ORDER);
+            }
+            return emails;
+        }
+    }
+
+    /**
+     * Returns the paths of the files holding the address book in {@code directoryPath}, by the name of the file they
+     * stand for. The companies come first, then the jobs, the persons in order of their file number and the person
+     * order.
+     *
+     * @throws IOException if the manifest cannot be read or is not valid.
+     */
+    static Map<String, Path> resolveFiles(Path directoryPath) throws IOException {
+        Optional<Manifest> manifest = readManifest(directoryPath);
+        Map<String, String> fileNames = manifest.isPresent() ? manifest.get().files : Map.of();
+        List<String> shardNames = new ArrayList<>(fileNames.keySet());
+        shardNames.sort(Comparator.comparingInt(ShardedAddressBookStorage::getReadOrder)
+                .thenComparingLong(ShardedAddressBookStorage::getPersonFileNumber));
+        Map<String, Path> filePaths = new LinkedHashMap<>();
+        for (String shardName : shardNames) {
+            filePaths.put(shardName, directoryPath.resolve(fileNames.get(shardName)));
+        }
+        return filePaths;
+    }
+
+    private static int getReadOrder(String shardName) {
+        switch (shardName) {
+        case COMPANIES_FILE:
+            return 0;
+        case JOBS_FILE:
+            return 1;
+        case PERSON_ORDER_FILE:
+            return 3;
+        default:
+            return 2;
+        }
+    }
+
+    private static long getPersonFileNumber(String shardName) {
+        Matcher matcher = PERSONS_FILE_PATTERN.matcher(shardName);
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the manifest of {@code directoryPath}, or {@code Optional.empty()} if no address book has been saved to
+     * the directory yet.
+     *
+     * @throws IOException if the manifest cannot be read or does not list only data files.
+     */
+    private static Optional<Manifest> readManifest(Path directoryPath) throws IOException {
+        Path manifestPath = directoryPath.resolve(MANIFEST_FILE);
+        if (!Files.exists(manifestPath)) {
+            return Optional.empty();
+        }
+        Manifest manifest = JsonUtil.fromJsonString(FileUtil.readFromFile(manifestPath), Manifest.class);
+        if (manifest.files == null) {
+            throw new IOException(MESSAGE_INVALID_MANIFEST);
+        }
+        for (Map.Entry<String, String> file : manifest.files.entrySet()) {
+            if (!SHARD_FILE_PATTERN.matcher(file.getKey()).matches() || file.getValue() == null
+                    || !DATA_FILE_PATTERN.matcher(file.getValue()).matches()) {
+                throw new IOException(MESSAGE_INVALID_MANIFEST);
+            }
+        }
+        return Optional.of(manifest);
+    }
+
+    /**
+     * The records to be written to one file, and how to write them.
+     */
+    private static class Shard<T> {
+        private final String fieldName;
+        private final List<T> records;
+        private final JsonAddressBookStreamWriter.RecordWriter<T> recordWriter;
+
+        Shard(String fieldName, List<T> records, JsonAddressBookStreamWriter.RecordWriter<T> recordWriter) {
+            this.fieldName = fieldName;
+            this.records = records;
+            this.recordWriter = recordWriter;
+        }
+
+        void write(Path filePath, boolean isPrettyPrinted) throws IOException {
+            JsonAddressBookStreamWriter.writeSection(fieldName, records, recordWriter, filePath, isPrettyPrinted);
+        }
+    }
+
+    /**
+     * The data files of one save, by the name of the file they stand for.
+     */
+    private static class Manifest {
+        private final long generation;
+        private final Map<String, String> files;
+
+        @JsonCreator
+        Manifest(@JsonProperty("generation") long generation, @JsonProperty("files") Map<String, String> files) {
+            this.generation = generation;
+            this.files = files;
+        }
+    }
+
+    /**
+     * The records read from one file, or the error that prevented them from being read.
+     */
+    private static class LoadedShard {
+        private final JsonAddressBookStreamReader records;
+        private final Exception failure;
+
+        private LoadedShard(JsonAddressBookStreamReader records, Exception failure) {
+            this.records = records;
+            this.failure = failure;
+        }
+
+        static LoadedShard load(Path filePath) {
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+                    InputStream in = Channels.newInputStream(channel)) {
+                return new LoadedShard(JsonAddressBookStreamReader.readRecords(in), null);
+            } catch (IOException | IllegalValueException | RuntimeException e) {
+                return new LoadedShard(null, e);
+            }
+        }
+
+        JsonAddressBookStreamReader getRecords() throws IOException, IllegalValueException {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure instanceof IllegalValueException) {
+                throw (IllegalValueException) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+            return records;
+        }
+    }
+}
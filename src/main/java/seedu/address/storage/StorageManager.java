@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -75,4 +76,15 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        logger.fine("Waiting for pending writes to data file: " + getAddressBookFilePath());
+        addressBookStorage.flushAddressBook();
+    }
+
+    @Override
+    public void setSaveFailureListener(Consumer<IOException> saveFailureListener) {
+        addressBookStorage.setSaveFailureListener(saveFailureListener);
+    }
+
 }
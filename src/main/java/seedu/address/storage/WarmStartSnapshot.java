@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A snapshot of the address book in a data file, written when the app exits so that the next launch can load the
+ * address book without parsing and validating the data file again.
+ * <p>
+ * The snapshot holds the address book in the format of {@link BinaryAddressBookStorage}, after a header with the
+ * length and SHA-256 hash of the data file it was taken of. It is only used while the data file still has that length
+ * and hash, so a data file that has since been changed, whether by the app or by hand, is read in full as usual.
+ * Since a snapshot is only ever written of an address book that was validated when it was loaded or edited, the
+ * records in it are not validated again.
+ */
+public class WarmStartSnapshot {
+
+    public static final String FILE_EXTENSION = ".snapshot";
+
+    static final int MAGIC = 0x54435753;
+    static final int VERSION = 1;
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_BYTES = 32;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES + HASH_BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(WarmStartSnapshot.class);
+
+    private final Path snapshotFilePath;
+
+    /**
+     * Creates a snapshot that is read from and written to the file at {@code snapshotFilePath}.
+     */
+    public WarmStartSnapshot(Path snapshotFilePath) {
+        requireNonNull(snapshotFilePath);
+        this.snapshotFilePath = snapshotFilePath;
+    }
+
+    /**
+     * Returns the path of the snapshot of the data file at {@code dataFilePath}, which is the data file path with its
+     * extension replaced by {@value #FILE_EXTENSION}.
+     */
+    public static Path toSnapshotFilePath(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return dataFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    public Path getSnapshotFilePath() {
+        return snapshotFilePath;
+    }
+
+    /**
+     * Returns the address book in the snapshot if the snapshot was taken of the data file at {@code dataFilePath} as
+     * it is now. Returns {@code Optional.empty()} if there is no such snapshot, or if it cannot be read, in which case
+     * the data file is to be read instead.
+     */
+    public Optional<ReadOnlyAddressBook> read(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        if (!Files.exists(snapshotFilePath) || !Files.exists(dataFilePath)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotFilePath, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                logger.info("Snapshot " + snapshotFilePath + " is not valid, reading data file instead.");
+                return Optional.empty();
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                logger.info("Snapshot " + snapshotFilePath + " is not supported, reading data file instead.");
+                return Optional.empty();
+            }
+
+            // The length is checked first, so that a data file of another length is not hashed in vain.
+            long dataFileLength = buffer.getLong();
+            byte[] dataFileHash = new byte[HASH_BYTES];
+            buffer.get(dataFileHash);
+            if (dataFileLength != Files.size(dataFilePath) || !Arrays.equals(dataFileHash, hash(dataFilePath))) {
+                logger.info("Data file " + dataFilePath + " has changed since snapshot " + snapshotFilePath
+                        + " was taken, reading data file instead.");
+                return Optional.empty();
+            }
+
+            ReadOnlyAddressBook addressBook = BinaryAddressBookStorage.read(buffer, true);
+            logger.info("Loaded data from snapshot " + snapshotFilePath);
+            return Optional.of(addressBook);
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            // A snapshot that refers to missing or duplicate records fails while the address book is being filled.
+            logger.warning("Could not read snapshot " + snapshotFilePath + ", reading data file instead: "
+                    + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook}, which must be the address book in the data file at
+     * {@code dataFilePath} as it is now, replacing any snapshot written before.
+     *
+     * @throws IOException if there was any problem reading the data file or writing the snapshot.
+     */
+    public void write(ReadOnlyAddressBook addressBook, Path dataFilePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(dataFilePath);
+
+        long dataFileLength = Files.size(dataFilePath);
+        byte[] dataFileHash = hash(dataFilePath);
+        FileUtil.writeAtomically(snapshotFilePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            dataOut.writeInt(MAGIC);
+            dataOut.writeInt(VERSION);
+            dataOut.writeLong(dataFileLength);
+            dataOut.write(dataFileHash);
+            dataOut.flush();
+            BinaryAddressBookStorage.write(addressBook, out);
+        });
+        logger.fine("Wrote snapshot " + snapshotFilePath);
+    }
+
+    /**
+     * Returns the SHA-256 hash of the contents of the file at {@code filePath}.
+     */
+    private static byte[] hash(Path filePath) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IOException(e);
+        }
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+}
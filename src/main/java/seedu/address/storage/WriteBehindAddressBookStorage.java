@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes saves to another {@code AddressBookStorage} on a background thread.
+ * <p>
+ * Each save only takes a snapshot of the address book on the calling thread, and the snapshot is written after a
+ * short delay. Saves requested before the previous one has started writing replace it, so a burst of saves results
+ * in a single write of the latest state.
+ * <p>
+ * A background write that fails is reported to the save failure listener as soon as it fails. Without a listener, it
+ * is reported by throwing its exception from the next call to {@link #saveAddressBook(ReadOnlyAddressBook, Path)} or
+ * {@link #flushAddressBook()}. Writes that {@link #flushAddressBook()} waits for are reported by throwing from it.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_WRITE_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final long writeDelayMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this object's lock.
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new LinkedHashMap<>();
+    private IOException failure;
+    private Consumer<IOException> saveFailureListener;
+
+    /**
+     * Creates a storage that writes saves to {@code storage} {@code writeDelayMillis} milliseconds after the first of
+     * a burst of saves is requested.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage storage, long writeDelayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writeDelayMillis = writeDelayMillis;
+    }
+
+    public WriteBehindAddressBookStorage(AddressBookStorage storage) {
+        this(storage, DEFAULT_WRITE_DELAY_MILLIS);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Pending saves are written first, so that they are visible to the read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            flushAddressBook();
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules {@code addressBook} to be written to {@code filePath} in the background.
+     *
+     * @throws IOException if the previous background write failed. The new save is scheduled regardless.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        IOException previousFailure;
+        synchronized (this) {
+            boolean isWriteScheduled = !pendingSaves.isEmpty();
+            pendingSaves.put(filePath, snapshot);
+            if (!isWriteScheduled) {
+                executor.schedule(this::writePendingSavesInBackground, writeDelayMillis, TimeUnit.MILLISECONDS);
+            }
+            previousFailure = failure;
+            failure = null;
+        }
+
+        if (previousFailure != null) {
+            throw previousFailure;
+        }
+    }
+
+    /**
+     * Writes all pending saves immediately and waits for them to complete.
+     *
+     * @throws IOException if a pending save could not be written, or a background write failed since the last save
+     *     or flush without a save failure listener to report it to.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        IOException writeFailure;
+        try {
+            writeFailure = executor.submit(this::writePendingSaves).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+        if (writeFailure != null) {
+            throw writeFailure;
+        }
+        storage.flushAddressBook();
+
+        IOException previousFailure;
+        synchronized (this) {
+            previousFailure = failure;
+            failure = null;
+        }
+        if (previousFailure != null) {
+            throw previousFailure;
+        }
+    }
+
+    /**
+     * Sets the listener told about each background write that fails, on the background thread.
+     */
+    @Override
+    public synchronized void setSaveFailureListener(Consumer<IOException> saveFailureListener) {
+        this.saveFailureListener = saveFailureListener;
+    }
+
+    /**
+     * Writes every pending save to the underlying storage, and reports a failed write to the save failure listener,
+     * or keeps it for the next save or flush if there is none. Runs on the background thread.
+     */
+    private void writePendingSavesInBackground() {
+        IOException writeFailure = writePendingSaves();
+        if (writeFailure == null) {
+            return;
+        }
+        Consumer<IOException> listener;
+        synchronized (this) {
+            listener = saveFailureListener;
+            if (listener == null) {
+                failure = writeFailure;
+            }
+        }
+        if (listener != null) {
+            listener.accept(writeFailure);
+        }
+    }
+
+    /**
+     * Writes every pending save to the underlying storage. Runs on the background thread.
+     *
+     * @return the failure of the last write that failed, or null if every write succeeded.
+     */
+    private IOException writePendingSaves() {
+        Map<Path, ReadOnlyAddressBook> saves;
+        synchronized (this) {
+            saves = new LinkedHashMap<>(pendingSaves);
+            pendingSaves.clear();
+        }
+
+        IOException writeFailure = null;
+        for (Map.Entry<Path, ReadOnlyAddressBook> save : saves.entrySet()) {
+            try {
+                storage.saveAddressBook(save.getValue(), save.getKey());
+            } catch (IOException ioe) {
+                logger.warning("Failed to save data to " + save.getKey() + ": " + ioe);
+                writeFailure = ioe;
+            }
+        }
+        return writeFailure;
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -37,6 +39,9 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
+    // The number of commands executed so far, used to tell whether a newer command has run.
+    private long commandCount;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -135,6 +140,11 @@ public class MainWindow extends UiPart<Stage> {
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        logic.setSaveFailureListener(message -> Platform.runLater(() -> {
+            logger.warning("Save failed in the background: " + message);
+            resultDisplay.setFeedbackToUser(message);
+        }));
     }
 
     /**
@@ -184,16 +194,42 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    /**
+     * Shows the feedback of the command numbered {@code commandNumber} that completed in the background, or the reason
+     * it failed. If a newer command has run since, the feedback is shown below that of the newer command instead of
+     * replacing it.
+     */
+    private void showPendingFeedback(long commandNumber, String feedback, Throwable failure) {
+        String feedbackToUser = feedback;
+        if (failure != null) {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            logger.warning("Command failed in the background: " + cause);
+            feedbackToUser = cause.getMessage();
+        } else {
+            logger.info("Result: " + feedback);
+        }
+
+        if (commandNumber == commandCount) {
+            resultDisplay.setFeedbackToUser(feedbackToUser);
+        } else {
+            resultDisplay.appendFeedbackToUser(feedbackToUser);
+        }
+    }
+
     /**
      * Executes the command and returns the result.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        long commandNumber = ++commandCount;
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getPendingFeedback().ifPresent(pendingFeedback -> pendingFeedback.whenComplete((feedback,
+                    failure) -> Platform.runLater(() -> showPendingFeedback(commandNumber, feedback, failure))));
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -25,4 +25,12 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows {@code feedbackToUser} below the feedback already shown.
+     */
+    public void appendFeedbackToUser(String feedbackToUser) {
+        requireNonNull(feedbackToUser);
+        resultDisplay.appendText("\n" + feedbackToUser);
+    }
+
 }
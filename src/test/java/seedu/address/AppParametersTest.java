@@ -39,10 +39,20 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_importAndExportPaths_success() {
+        parametersStub.namedParameters.put("import-json", "old.json");
+        parametersStub.namedParameters.put("export-json", "a\0");
+        expected.setImportPath(Paths.get("old.json"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", importPath=" + appParameters.getImportPath()
+                + ", exportPath=" + appParameters.getExportPath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +76,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different import path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setImportPath(Paths.get("importPath"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different export path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setExportPath(Paths.get("exportPath"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -12,7 +12,15 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", dataFilePrettyPrinted=" + config.isDataFilePrettyPrinted()
+                + ", dataSavedInBackground=" + config.isDataSavedInBackground()
+                + ", dataFileJournaled=" + config.isDataFileJournaled()
+                + ", dataFileBinary=" + config.isDataFileBinary()
+                + ", dataFileSharded=" + config.isDataFileSharded()
+                + ", dataFileCompressed=" + config.isDataFileCompressed()
+                + ", dataSnapshotUsed=" + config.isDataSnapshotUsed()
+                + ", personDataShards=" + config.getPersonDataShards() + "}";
         assertEquals(expected, config.toString());
     }
 
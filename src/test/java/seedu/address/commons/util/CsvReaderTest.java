@@ -0,0 +1,109 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    @Test
+    public void readRecord_plainFields_success() throws Exception {
+        assertEquals(Arrays.asList(Arrays.asList("a", "b", ""), Arrays.asList("", "c d", "e")),
+                readAll("a,b,\r\n,c d,e"));
+    }
+
+    @Test
+    public void readRecord_lineBreaks_success() throws Exception {
+        // every kind of line break, with and without one at the end of the file
+        List<List<String>> expected = Arrays.asList(List.of("a"), List.of("b"), List.of("c"));
+        assertEquals(expected, readAll("a\nb\r\nc"));
+        assertEquals(expected, readAll("a\rb\nc\r\n"));
+
+        // empty line -> one empty field
+        assertEquals(Arrays.asList(List.of("a"), List.of(""), List.of("b")), readAll("a\n\nb\n"));
+
+        // empty file -> no records
+        assertEquals(List.of(), readAll(""));
+    }
+
+    @Test
+    public void readRecord_quotedFields_success() throws Exception {
+        assertEquals(List.of(Arrays.asList("a,b", "say \"hi\"", "two\nlines", "")),
+                readAll("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",\"\"\n"));
+
+        // quote inside an unquoted field, and text after a closing quote -> kept as it is
+        assertEquals(List.of(Arrays.asList("a\"b", "cd")), readAll("a\"b,\"c\"d"));
+    }
+
+    @Test
+    public void readRecord_byteOrderMark_skipped() throws Exception {
+        assertEquals(List.of(List.of("name", "phone")), readAll((char) 0xFEFF + "name,phone"));
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() {
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2), () ->
+                readAll("a\n\"b\nc"));
+    }
+
+    @Test
+    public void getRecordLineNumber_quotedLineBreaks_counted() throws Exception {
+        try (CsvReader reader = new CsvReader(new StringReader("a\n\"b\r\nc\rd\"\ne"))) {
+            reader.readRecord();
+            assertEquals(1, reader.getRecordLineNumber());
+            reader.readRecord();
+            assertEquals(2, reader.getRecordLineNumber());
+            reader.readRecord();
+            assertEquals(5, reader.getRecordLineNumber());
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    public void writeRecord_randomFields_readBackSame() throws Exception {
+        char[] alphabet = {'a', ' ', ',', '"', '\n', '\r', 'é'};
+        Random random = new Random(2103);
+        List<List<String>> records = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            List<String> record = new ArrayList<>();
+            int fieldCount = 1 + random.nextInt(4);
+            for (int j = 0; j < fieldCount; j++) {
+                char[] field = new char[random.nextInt(6)];
+                for (int k = 0; k < field.length; k++) {
+                    field[k] = alphabet[random.nextInt(alphabet.length)];
+                }
+                record.add(new String(field));
+            }
+            records.add(record);
+        }
+
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            for (List<String> record : records) {
+                writer.writeRecord(record);
+            }
+        }
+        assertEquals(records, readAll(out.toString()));
+    }
+}
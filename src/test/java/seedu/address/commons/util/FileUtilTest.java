@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,55 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_fileCreated() throws Exception {
+        Path file = testFolder.resolve("a").resolve("b").resolve("file.txt");
+        FileUtil.writeToFile(file, "contents");
+        assertEquals("contents", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_existingLongerFile_replaced() throws Exception {
+        Path file = testFolder.resolve("file.bin");
+        FileUtil.writeToFile(file, "x".repeat(1 << 20));
+
+        // more than fits in the buffer, written both byte by byte and in blocks
+        byte[] contents = new byte[(1 << 18) + 3];
+        new Random(0).nextBytes(contents);
+        FileUtil.writeAtomically(file, out -> {
+            out.write(contents[0]);
+            out.write(contents, 1, contents.length - 1);
+        });
+
+        assertArrayEquals(contents, Files.readAllBytes(file));
+        assertFalse(Files.exists(testFolder.resolve("file.bin.tmp")));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_oldContentsKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write(new byte[1 << 17]);
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("file.txt.tmp")));
+    }
+
+    @Test
+    public void moveReplacing_existingTarget_replaced() throws Exception {
+        Path source = testFolder.resolve("new.txt");
+        Path target = testFolder.resolve("file.txt");
+        FileUtil.writeForced(source, out -> out.write("new contents".getBytes()));
+        FileUtil.writeToFile(target, "old contents");
+
+        FileUtil.moveReplacing(source, target);
+
+        assertEquals("new contents", FileUtil.readFromFile(target));
+        assertFalse(Files.exists(source));
+    }
+
 }
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,12 +125,119 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_correctResult() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("alice2103", StringUtil.foldCase("ALiCe2103"));
+
+        // characters equal ignoring case -> folded to the same character
+        assertEquals(StringUtil.foldCase("\u03a3"), StringUtil.foldCase("\u03c2")); // capital and final sigma
+        assertTrue("\u0130".equalsIgnoreCase("i")); // capital dotted I
+        assertEquals(StringUtil.foldCase("i"), StringUtil.foldCase("\u0130"));
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("a", "b", -1));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", "", 0));
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice", 0));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alcie", 2)); // swap
+        assertEquals(1, StringUtil.getEditDistance("alice", "alce", 2)); // deletion
+        assertEquals(1, StringUtil.getEditDistance("alice", "allice", 2)); // insertion
+        assertEquals(1, StringUtil.getEditDistance("alice", "alise", 2)); // substitution
+        assertEquals(2, StringUtil.getEditDistance("alice", "alicia", 2));
+        assertEquals(3, StringUtil.getEditDistance("", "abc", 3));
+
+        // more than the bound -> one more than the bound
+        assertEquals(3, StringUtil.getEditDistance("alice", "bob", 2));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alcie", 0));
+        assertEquals(2, StringUtil.getEditDistance("abcdef", "badcfe", 1));
+    }
+
+    @Test
+    public void getEditDistance_randomInputs_sameAsFullTable() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 2000; i++) {
+            String first = randomString(random);
+            String second = randomString(random);
+            int distance = getFullEditDistance(first, second);
+            for (int maxDistance = 0; maxDistance <= 4; maxDistance++) {
+                assertEquals(Math.min(distance, maxDistance + 1),
+                        StringUtil.getEditDistance(first, second, maxDistance), first + " " + second);
+            }
+        }
+    }
+
+    private static String randomString(Random random) {
+        char[] chars = new char[random.nextInt(8)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, filling the whole table.
+     */
+    private static int getFullEditDistance(String first, String second) {
+        int[][] table = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    table[i][j] = i + j;
+                    continue;
+                }
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                table[i][j] = Math.min(table[i - 1][j - 1] + cost, Math.min(table[i - 1][j], table[i][j - 1]) + 1);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    table[i][j] = Math.min(table[i][j], table[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return table[first.length()][second.length()];
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
      * Equivalence Partitions: null, valid throwable object
      */
 
+    @Test
+    public void isRegexWhitespace() {
+        for (char c : " \t\n\u000B\f\r".toCharArray()) {
+            assertTrue(StringUtil.isRegexWhitespace(c));
+        }
+        // only ASCII whitespace
+        assertFalse(StringUtil.isRegexWhitespace('\u00A0'));
+        assertFalse(StringUtil.isRegexWhitespace('\u2028'));
+        assertFalse(StringUtil.isRegexWhitespace('a'));
+    }
+
+    @Test
+    public void isLineTerminator() {
+        for (char c : "\n\r\u0085\u2028\u2029".toCharArray()) {
+            assertTrue(StringUtil.isLineTerminator(c));
+        }
+        assertFalse(StringUtil.isLineTerminator('\t'));
+        assertFalse(StringUtil.isLineTerminator('\f'));
+        assertFalse(StringUtil.isLineTerminator(' '));
+    }
+
     @Test
     public void getDetails_exceptionGiven() {
         assertTrue(StringUtil.getDetails(new FileNotFoundException("file not found"))
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -12,7 +14,12 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -82,6 +89,148 @@ public class LogicManagerTest {
                 String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_addressBookUnchangedSinceSave_doesNotSave() throws Exception {
+        int[] saveCount = new int[1];
+        logic = new LogicManager(model, createStorage(new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }));
+        String listContactCommand = ListContactCommand.COMMAND_WORD + " " + ListContactCommand.ENTITY_WORD;
+
+        // first command -> saved, since the data file may not exist yet
+        logic.execute(listContactCommand);
+        assertEquals(1, saveCount[0]);
+
+        // read-only command -> not saved
+        logic.execute(listContactCommand);
+        assertEquals(1, saveCount[0]);
+
+        // modifying command -> saved
+        logic.execute(AddContactCommand.FULL_COMMAND + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ROLE_DESC_AMY);
+        assertEquals(2, saveCount[0]);
+
+        // failed command that does not modify the address book -> not saved
+        assertThrows(CommandException.class, () -> logic.execute("delete contact 9"));
+        logic.execute(listContactCommand);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_previousSaveFailed_savesAgain() throws Exception {
+        boolean[] isFailing = {true};
+        logic = new LogicManager(model, createStorage(new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }));
+        String listContactCommand = ListContactCommand.COMMAND_WORD + " " + ListContactCommand.ENTITY_WORD;
+
+        assertThrows(CommandException.class, () -> logic.execute(listContactCommand));
+        isFailing[0] = false;
+        logic.execute(listContactCommand);
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void executeScript_severalCommands_savedOnce() throws Exception {
+        int[] saveCount = new int[1];
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic = new LogicManager(model, createStorage(new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }));
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, Arrays.asList(ListContactCommand.COMMAND_WORD + " " + ListContactCommand.ENTITY_WORD,
+                AddContactCommand.FULL_COMMAND + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY,
+                "delete contact 1"));
+
+        logic.executeScript(scriptPath, false);
+        assertEquals(1, saveCount[0]);
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(addressBookPath).readAddressBook().get());
+
+        // failing command -> commands before it saved
+        Files.write(scriptPath, Arrays.asList(
+                AddContactCommand.FULL_COMMAND + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY,
+                "delete contact 9"));
+        assertThrows(CommandException.class, () -> logic.executeScript(scriptPath, false));
+        assertEquals(2, saveCount[0]);
+        assertTrue(model.hasPerson(new PersonBuilder(AMY).withSkills().build()));
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(addressBookPath).readAddressBook().get());
+    }
+
+    @Test
+    public void isAddressBookSaved() throws Exception {
+        String listContactCommand = ListContactCommand.COMMAND_WORD + " " + ListContactCommand.ENTITY_WORD;
+
+        // no command executed -> not saved
+        assertFalse(logic.isAddressBookSaved());
+
+        // command executed -> saved
+        logic.execute(listContactCommand);
+        assertTrue(logic.isAddressBookSaved());
+
+        // modified without a command -> not saved
+        model.addPerson(AMY);
+        assertFalse(logic.isAddressBookSaved());
+    }
+
+    @Test
+    public void execute_loadedFromStorage_notSavedUntilModified() throws Exception {
+        int[] saveCount = new int[1];
+        logic = new LogicManager(model, createStorage(new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }), model.getAddressBookModificationCount());
+        assertTrue(logic.isAddressBookSaved());
+
+        logic.execute(ListContactCommand.COMMAND_WORD + " " + ListContactCommand.ENTITY_WORD);
+        assertEquals(0, saveCount[0]);
+
+        logic.execute(AddContactCommand.FULL_COMMAND + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ROLE_DESC_AMY);
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void setSaveFailureListener_backgroundSaveFailed_errorReportedAndNotSaved() throws Exception {
+        List<Consumer<IOException>> storageListeners = new ArrayList<>();
+        logic = new LogicManager(model, createStorage(new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void setSaveFailureListener(Consumer<IOException> saveFailureListener) {
+                storageListeners.add(saveFailureListener);
+            }
+        }));
+        List<String> messages = new ArrayList<>();
+        logic.setSaveFailureListener(messages::add);
+        logic.execute(ListContactCommand.COMMAND_WORD + " " + ListContactCommand.ENTITY_WORD);
+        assertTrue(logic.isAddressBookSaved());
+
+        storageListeners.get(0).accept(DUMMY_IO_EXCEPTION);
+        assertEquals(Arrays.asList(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                messages);
+        assertFalse(logic.isAddressBookSaved());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -145,6 +294,11 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    private StorageManager createStorage(JsonAddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
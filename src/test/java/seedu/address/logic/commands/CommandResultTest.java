@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -52,12 +54,27 @@ public class CommandResultTest {
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
     }
 
+    @Test
+    public void equals_pendingFeedback() {
+        CompletableFuture<String> pendingFeedback = CompletableFuture.completedFuture("done");
+        CommandResult commandResult = new CommandResult("feedback", pendingFeedback);
+
+        // same pending feedback -> returns true
+        assertTrue(commandResult.equals(new CommandResult("feedback", pendingFeedback)));
+
+        // other pending feedback -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", CompletableFuture.completedFuture("done"))));
+
+        // no pending feedback -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback")));
+    }
+
     @Test
     public void toStringMethod() {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", pendingFeedback=" + commandResult.getPendingFeedback() + "}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.common.Name;
+import seedu.address.model.person.Person;
+import seedu.address.storage.RecordExporter;
+import seedu.address.testutil.ModelStub;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private static String getFinalFeedback(CommandResult result) {
+        return result.getPendingFeedback().get().toCompletableFuture().join();
+    }
+
+    /**
+     * Returns the message of the {@code CommandException} that the pending feedback of {@code result} completes with.
+     */
+    private static String getFailureMessage(CommandResult result) {
+        CompletionException failure = Assertions.assertThrows(CompletionException.class, () ->
+                getFinalFeedback(result));
+        assertTrue(failure.getCause() instanceof CommandException);
+        return failure.getCause().getMessage();
+    }
+
+    @Test
+    public void execute_shownContacts_onlyShownExported() throws Exception {
+        Path file = testFolder.resolve("contacts.csv");
+        model.updateFilteredPersonList(ALICE::equals);
+
+        CommandResult result = new ExportCommand("contact", false, file, RecordExporter.Format.CSV).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 1, "contact", file), result.getFeedbackToUser());
+        String feedback = getFinalFeedback(result);
+        assertTrue(feedback.startsWith(String.format("Exported 1 contact records (%d bytes) to %s", Files.size(file),
+                file)));
+        // header and one contact
+        assertEquals(2, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void execute_allContacts_allExported() throws Exception {
+        Path file = testFolder.resolve("contacts.jsonl");
+        model.updateFilteredPersonList(ALICE::equals);
+        int personCount = model.getFullPersonList().size();
+
+        CommandResult result = new ExportCommand("contact", true, file, RecordExporter.Format.JSON_LINES)
+                .execute(model);
+
+        assertTrue(getFinalFeedback(result).startsWith("Exported " + personCount + " contact records"));
+        assertEquals(personCount, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void execute_unwritableFile_failureReported() throws Exception {
+        // a folder cannot be replaced by a file
+        Path file = Files.createDirectories(testFolder.resolve("folder.csv").resolve("child"));
+
+        CommandResult result = new ExportCommand("company", false, file.getParent(), RecordExporter.Format.CSV)
+                .execute(model);
+
+        assertTrue(getFailureMessage(result).startsWith("Could not export to " + file.getParent()));
+    }
+
+    @Test
+    public void execute_unexpectedFailure_failureReported() throws Exception {
+        Path file = testFolder.resolve("contacts.csv");
+        Person brokenPerson = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getRole(),
+                ALICE.getSkills()) {
+            @Override
+            public Name getName() {
+                throw new IllegalStateException("broken contact");
+            }
+        };
+        Model modelStub = new ModelStub() {
+            @Override
+            public ObservableList<Person> getFilteredPersonList() {
+                return FXCollections.observableArrayList(brokenPerson);
+            }
+        };
+
+        CommandResult result = new ExportCommand("contact", false, file, RecordExporter.Format.CSV).execute(modelStub);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_FAILED, file, "broken contact"), getFailureMessage(result));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportContacts = new ExportCommand("contact", false, Path.of("contacts.csv"),
+                RecordExporter.Format.CSV);
+
+        assertTrue(exportContacts.equals(exportContacts));
+        assertTrue(exportContacts.equals(new ExportCommand("contact", false, Path.of("contacts.csv"),
+                RecordExporter.Format.CSV)));
+        assertFalse(exportContacts.equals(null));
+        assertFalse(exportContacts.equals(new ExportCommand("job", false, Path.of("contacts.csv"),
+                RecordExporter.Format.CSV)));
+        assertFalse(exportContacts.equals(new ExportCommand("contact", true, Path.of("contacts.csv"),
+                RecordExporter.Format.CSV)));
+        assertFalse(exportContacts.equals(new ExportCommand("contact", false, Path.of("other.csv"),
+                RecordExporter.Format.CSV)));
+        assertFalse(exportContacts.equals(new ExportCommand("contact", false, Path.of("contacts.csv"),
+                RecordExporter.Format.JSON_LINES)));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonConditions;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.Condition.Operator;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindContactQueryCommand}.
+ */
+public class FindContactQueryCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        List<Condition<Person>> firstConditions = Arrays.asList(PersonConditions.of("skill", Operator.EQUAL, "java"));
+        List<Condition<Person>> secondConditions = Arrays.asList(PersonConditions.of("role", Operator.CONTAINS, "qa"));
+        FindContactQueryCommand findFirstCommand = new FindContactQueryCommand(firstConditions, false);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindContactQueryCommand(firstConditions, false)));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different conditions -> returns false
+        assertFalse(findFirstCommand.equals(new FindContactQueryCommand(secondConditions, false)));
+
+        // explained -> returns false
+        assertFalse(findFirstCommand.equals(new FindContactQueryCommand(firstConditions, true)));
+    }
+
+    @Test
+    public void execute_noMatchingContact_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        List<Condition<Person>> conditions = Arrays.asList(PersonConditions.of("skill", Operator.EQUAL, "cobol"));
+        expectedModel.updateFilteredPersonListByQuery(conditions);
+        assertCommandSuccess(new FindContactQueryCommand(conditions, false), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explained_planShown() {
+        List<Condition<Person>> conditions = Arrays.asList(
+                PersonConditions.of("name", Operator.CONTAINS, "meier"),
+                PersonConditions.of("status", Operator.EQUAL, "unmatched"));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2)
+                + "\nPlan: look up name~meier in an index, giving 2 of the contacts, then check status=unmatched on "
+                + "each.";
+        expectedModel.updateFilteredPersonListByQuery(conditions);
+        assertCommandSuccess(new FindContactQueryCommand(conditions, true), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Condition<Person>> conditions = Arrays.asList(PersonConditions.of("skill", Operator.EQUAL, "java"));
+        FindContactQueryCommand command = new FindContactQueryCommand(conditions, false);
+        String expected = FindContactQueryCommand.class.getCanonicalName() + "{conditions=" + conditions
+                + ", isExplained=false}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBooks.getAddressBookWithJobs;
+import static seedu.address.testutil.TypicalJobs.SWE;
+import static seedu.address.testutil.TypicalJobs.TA;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindJobCommand}.
+ */
+public class FindJobCommandTest {
+    private Model model = new ModelManager(getAddressBookWithJobs(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getAddressBookWithJobs(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindJobCommand findFirstCommand = new FindJobCommand(Collections.singletonList("first"));
+        FindJobCommand findSecondCommand = new FindJobCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindJobCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingKeywords_noJobFound() {
+        String expectedMessage = String.format(FindJobCommand.MESSAGE_JOBS_LISTED_OVERVIEW, 0);
+        List<String> keywords = Arrays.asList("kotlin");
+        expectedModel.updateFilteredJobListByRelevance(keywords, FindJobCommand.MAX_JOBS_LISTED);
+        assertCommandSuccess(new FindJobCommand(keywords), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredJobList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_mostRelevantJobsFirst() {
+        String expectedMessage = String.format(FindJobCommand.MESSAGE_JOBS_LISTED_OVERVIEW, 2);
+        List<String> keywords = Arrays.asList("Tutorial", "software");
+        expectedModel.updateFilteredJobListByRelevance(keywords, FindJobCommand.MAX_JOBS_LISTED);
+        assertCommandSuccess(new FindJobCommand(keywords), model, expectedMessage, expectedModel);
+        // software occurs twice in the software engineer job, but in a much longer text than tutorial
+        assertEquals(Arrays.asList(TA, SWE), model.getFilteredJobList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = Arrays.asList("keyword");
+        FindJobCommand findJobCommand = new FindJobCommand(keywords);
+        String expected = FindJobCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, findJobCommand.toString());
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_JOBS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBooks.getAddressBookWithJobs;
+import static seedu.address.testutil.TypicalJobs.BARISTA;
+import static seedu.address.testutil.TypicalJobs.SWE;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobConditions;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.Condition.Operator;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindJobQueryCommand}.
+ */
+public class FindJobQueryCommandTest {
+    private Model model = new ModelManager(getAddressBookWithJobs(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getAddressBookWithJobs(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        List<Condition<Job>> firstConditions = Arrays.asList(JobConditions.of("salary", Operator.LESS, "3000"));
+        List<Condition<Job>> secondConditions = Arrays.asList(JobConditions.of("salary", Operator.GREATER, "3000"));
+        FindJobQueryCommand findFirstCommand = new FindJobQueryCommand(firstConditions, false);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindJobQueryCommand(firstConditions, false)));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different conditions -> returns false
+        assertFalse(findFirstCommand.equals(new FindJobQueryCommand(secondConditions, false)));
+
+        // explained -> returns false
+        assertFalse(findFirstCommand.equals(new FindJobQueryCommand(firstConditions, true)));
+    }
+
+    @Test
+    public void execute_salaryRange_jobsInRangeFound() {
+        String expectedMessage = String.format(MESSAGE_JOBS_LISTED_OVERVIEW, 2);
+        List<Condition<Job>> conditions = Arrays.asList(JobConditions.of("salary", Operator.GREATER, "2000"));
+        expectedModel.updateFilteredJobListByQuery(conditions);
+        assertCommandSuccess(new FindJobQueryCommand(conditions, false), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(SWE, BARISTA), model.getFilteredJobList());
+    }
+
+    @Test
+    public void execute_explained_planShown() {
+        List<Condition<Job>> conditions = Arrays.asList(
+                JobConditions.of("company", Operator.EQUAL, "google llc"),
+                JobConditions.of("salary", Operator.AT_LEAST, "3000"));
+        String expectedMessage = String.format(MESSAGE_JOBS_LISTED_OVERVIEW, 1)
+                + "\nPlan: look up salary>=3000 in an index, giving 1 of the jobs, then check company=google llc on "
+                + "each.";
+        expectedModel.updateFilteredJobListByQuery(conditions);
+        assertCommandSuccess(new FindJobQueryCommand(conditions, true), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(SWE), model.getFilteredJobList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Condition<Job>> conditions = Arrays.asList(JobConditions.of("salary", Operator.LESS, "3000"));
+        FindJobQueryCommand command = new FindJobQueryCommand(conditions, true);
+        String expected = FindJobQueryCommand.class.getCanonicalName() + "{conditions=" + conditions
+                + ", isExplained=true}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvAddressBookImporter;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path writeCsv(String... lines) throws Exception {
+        Path csvFile = testFolder.resolve("contacts.csv");
+        Files.write(csvFile, Arrays.asList(lines));
+        return csvFile;
+    }
+
+    @Test
+    public void execute_someRowsRejected_otherRowsImported() throws Exception {
+        Path csvFile = writeCsv("name,phone,email,role",
+                "Amy Bee,11111111,amy@example.com,Designer",
+                "Alice Again,44444444," + ALICE.getEmail() + ",Teacher",
+                "Bob Choo,22222222,bob@example.com,Tutor");
+        int personCount = model.getFilteredPersonList().size();
+        int[] changeCount = new int[1];
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        CommandResult result = new ImportCommand("contact", csvFile).execute(model);
+
+        Path rejectFile = CsvAddressBookImporter.toRejectFilePath(csvFile);
+        assertTrue(result.getFeedbackToUser().startsWith("Imported 2 contact records from " + csvFile));
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(ImportCommand.MESSAGE_REJECTED, 1, rejectFile)));
+        assertEquals(personCount + 2, model.getFilteredPersonList().size());
+        // the shown list is refreshed once, not once for each row
+        assertEquals(1, changeCount[0]);
+        assertTrue(Files.exists(rejectFile));
+    }
+
+    @Test
+    public void execute_nothingImported_addressBookNotModified() throws Exception {
+        long modificationCount = model.getAddressBookModificationCount();
+        Path csvFile = writeCsv("name,phone,email,role", "Alice Again,44444444," + ALICE.getEmail() + ",Teacher");
+
+        new ImportCommand("contact", csvFile).execute(model);
+
+        assertEquals(modificationCount, model.getAddressBookModificationCount());
+    }
+
+    @Test
+    public void execute_unreadableFile_throwsCommandException() throws Exception {
+        long modificationCount = model.getAddressBookModificationCount();
+        Path csvFile = writeCsv("name,phone,email,role,age", "Amy Bee,11111111,amy@example.com,Designer,30");
+
+        assertThrows(CommandException.class, () -> new ImportCommand("contact", csvFile).execute(model));
+        assertThrows(CommandException.class, () ->
+                new ImportCommand("job", testFolder.resolve("missing.csv")).execute(model));
+        assertEquals(modificationCount, model.getAddressBookModificationCount());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importContacts = new ImportCommand("contact", Path.of("contacts.csv"));
+
+        assertTrue(importContacts.equals(importContacts));
+        assertTrue(importContacts.equals(new ImportCommand("contact", Path.of("contacts.csv"))));
+        assertFalse(importContacts.equals(null));
+        assertFalse(importContacts.equals(new ImportCommand("job", Path.of("contacts.csv"))));
+        assertFalse(importContacts.equals(new ImportCommand("contact", Path.of("other.csv"))));
+    }
+}
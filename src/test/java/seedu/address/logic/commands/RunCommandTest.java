@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path writeScript(String... lines) throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, Arrays.asList(lines));
+        return scriptPath;
+    }
+
+    private static RunCommand runCommand(Path scriptPath, boolean isRolledBackOnFailure) {
+        return new RunCommand(scriptPath, isRolledBackOnFailure, new AddressBookParser()::parseCommand);
+    }
+
+    @Test
+    public void execute_validScript_allCommandsApplied() throws Exception {
+        Path scriptPath = writeScript("# two new contacts", PersonUtil.getAddContactCommand(AMY), "",
+                "  " + PersonUtil.getAddContactCommand(BOB), "stats");
+        int[] changeCount = new int[1];
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        CommandResult result = runCommand(scriptPath, false).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 3 commands from " + scriptPath));
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.hasPerson(BOB));
+        // the shown list is refreshed once, not once for each command
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void execute_filteredList_commandsRunOnFullListsAndFilterKept() throws Exception {
+        Person firstPerson = model.getFilteredPersonList().get(0);
+        model.updateFilteredPersonList(person -> false);
+
+        runCommand(writeScript("delete contact 1"), false).execute(model);
+
+        assertFalse(model.hasPerson(firstPerson));
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_readOnlyScript_addressBookNotModified() throws Exception {
+        long modificationCount = model.getAddressBookModificationCount();
+        runCommand(writeScript("stats", "list contact"), false).execute(model);
+        assertEquals(modificationCount, model.getAddressBookModificationCount());
+    }
+
+    @Test
+    public void execute_failingCommand_commandsBeforeItKept() throws Exception {
+        Path scriptPath = writeScript(PersonUtil.getAddContactCommand(AMY), "unknown",
+                PersonUtil.getAddContactCommand(BOB));
+
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2, scriptPath,
+                MESSAGE_UNKNOWN_COMMAND, String.format(RunCommand.MESSAGE_KEPT, 1)), ()
+                -> runCommand(scriptPath, false).execute(model));
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(BOB));
+    }
+
+    @Test
+    public void execute_failingCommandWithRollback_noChanges() throws Exception {
+        Path scriptPath = writeScript(PersonUtil.getAddContactCommand(AMY), "delete contact 100");
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertThrows(CommandException.class, () -> runCommand(scriptPath, true).execute(model));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_failingExport_scriptStopsAtExport() throws Exception {
+        // a folder cannot be replaced by a file
+        Path exportPath = Files.createDirectories(testFolder.resolve("folder.csv").resolve("child")).getParent();
+        Path scriptPath = writeScript("export contact " + exportPath, PersonUtil.getAddContactCommand(AMY));
+
+        assertThrows(CommandException.class, () -> runCommand(scriptPath, false).execute(model));
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void execute_nestedScript_throwsCommandException() throws Exception {
+        Path scriptPath = writeScript("run other.txt");
+
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 1, scriptPath,
+                RunCommand.MESSAGE_NESTED_SCRIPT, String.format(RunCommand.MESSAGE_KEPT, 0)), ()
+                -> runCommand(scriptPath, false).execute(model));
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        assertThrows(CommandException.class, () -> runCommand(testFolder.resolve("missing.txt"), false)
+                .execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = runCommand(testFolder.resolve("a.txt"), false);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(runCommand(testFolder.resolve("a.txt"), false)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different script -> returns false
+        assertFalse(runCommand.equals(runCommand(testFolder.resolve("b.txt"), false)));
+
+        // different rollback -> returns false
+        assertFalse(runCommand.equals(runCommand(testFolder.resolve("a.txt"), true)));
+    }
+}
@@ -2,11 +2,13 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,14 +21,18 @@ import seedu.address.logic.commands.DeleteContactCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListCompanyCommand;
 import seedu.address.logic.commands.ListContactCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.storage.RecordExporter;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -99,6 +105,47 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(listCompanyCommand) instanceof ListCompanyCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("script.txt"), true, parser::parseCommand),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " " + RunCommand.ROLLBACK_FLAG + " script.txt"));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand("contact", Paths.get("contacts.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " contact contacts.csv"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand("job", true, Paths.get("jobs.jsonl"), RecordExporter.Format.JSON_LINES),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " job " + ExportCommand.ALL_FLAG + " jobs.jsonl"));
+    }
+
+    @Test
+    public void parseCommand_shortenedCommandWord() throws Exception {
+        // only command word that starts with the input -> parsed as that command
+        assertTrue(parser.parseCommand("HE 3") instanceof HelpCommand);
+        assertTrue(parser.parseCommand("li contact") instanceof ListCommand);
+
+        // command that deletes data -> must be typed in full
+        assertThrows(ParseException.class, String.format(CommandRegistry.MESSAGE_FULL_COMMAND_WORD_REQUIRED,
+                ClearCommand.COMMAND_WORD), () -> parser.parseCommand("c 1"));
+        assertThrows(ParseException.class, String.format(CommandRegistry.MESSAGE_FULL_COMMAND_WORD_REQUIRED,
+                DeleteContactCommand.COMMAND_WORD), () -> parser.parseCommand("del contact 1"));
+
+        // several command words start with the input -> ambiguous
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "e", "edit, exit, export"), ()
+            -> parser.parseCommand("e 1"));
+    }
+
+    @Test
+    public void parseCommand_lineBreakInArguments_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand("list contact\nlist job"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +140,58 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_randomArgsStrings_sameAsSearchingEachPrefix() {
+        char[] alphabet = {' ', ' ', 'p', '/', '-', 't', '^', 'Q', 'x'};
+        Prefix[] prefixes = {pSlash, dashT, hatQ};
+        Random random = new Random(2103);
+        for (int i = 0; i < 10_000; i++) {
+            char[] chars = new char[random.nextInt(20)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String argsString = new String(chars);
+
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, prefixes);
+            ArgumentMultimap expectedArgMultimap = tokenizeBySearchingEachPrefix(argsString, prefixes);
+            assertEquals(expectedArgMultimap.getPreamble(), argMultimap.getPreamble(), argsString);
+            for (Prefix prefix : prefixes) {
+                assertEquals(expectedArgMultimap.getAllValues(prefix), argMultimap.getAllValues(prefix), argsString);
+            }
+        }
+    }
+
+    /**
+     * Tokenizes {@code argsString} by searching it for each prefix in turn, as {@code ArgumentTokenizer} once did.
+     */
+    private static ArgumentMultimap tokenizeBySearchingEachPrefix(String argsString, Prefix... prefixes) {
+        List<Integer> positions = new ArrayList<>();
+        List<Prefix> positionPrefixes = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            for (int index = argsString.indexOf(" " + prefix.getPrefix()); index != -1;
+                    index = argsString.indexOf(" " + prefix.getPrefix(), index + 1)) {
+                int position = index + 1;
+                int insertAt = 0;
+                while (insertAt < positions.size() && positions.get(insertAt) <= position) {
+                    insertAt++;
+                }
+                positions.add(insertAt, position);
+                positionPrefixes.add(insertAt, prefix);
+            }
+        }
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix argPrefix = new Prefix("");
+        int valueStartPos = 0;
+        for (int i = 0; i < positions.size(); i++) {
+            argMultimap.put(argPrefix, argsString.substring(valueStartPos, positions.get(i)).trim());
+            argPrefix = positionPrefixes.get(i);
+            valueStartPos = positions.get(i) + argPrefix.getPrefix().length();
+        }
+        argMultimap.put(argPrefix, argsString.substring(valueStartPos).trim());
+        return argMultimap;
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
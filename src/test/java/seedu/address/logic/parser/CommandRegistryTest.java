@@ -0,0 +1,93 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private static final String MESSAGE_FULL_WORD = CommandRegistry.MESSAGE_FULL_COMMAND_WORD_REQUIRED;
+
+    private final Parser<Command> clearParser = arguments -> new ClearCommand();
+    private final Parser<Command> exitParser = arguments -> new ExitCommand();
+    private final Parser<Command> editParser = arguments -> new ExitCommand();
+    private final Parser<Command> listParser = arguments -> new ExitCommand();
+
+    private final CommandRegistry registry = new CommandRegistry()
+            .register("clear", clearParser, false)
+            .register("exit", exitParser, false)
+            .register("edit", editParser)
+            .register("list", listParser);
+
+    @Test
+    public void register_invalidCommandWord_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new CommandRegistry().register(null, clearParser));
+        assertThrows(NullPointerException.class, () -> new CommandRegistry().register("clear", null));
+        assertThrows(IllegalArgumentException.class, CommandRegistry.MESSAGE_INVALID_COMMAND_WORD, ()
+            -> new CommandRegistry().register(" ", clearParser));
+        assertThrows(IllegalArgumentException.class, CommandRegistry.MESSAGE_INVALID_COMMAND_WORD, ()
+            -> new CommandRegistry().register("Clear", clearParser));
+        assertThrows(IllegalArgumentException.class, CommandRegistry.MESSAGE_INVALID_COMMAND_WORD, ()
+            -> new CommandRegistry().register("clear all", clearParser));
+        assertThrows(IllegalArgumentException.class,
+                String.format(CommandRegistry.MESSAGE_DUPLICATE_COMMAND_WORD, "exit"), ()
+                -> registry.register("exit", clearParser));
+    }
+
+    @Test
+    public void getParser_registeredCommandWord_returnsParser() throws Exception {
+        assertSame(clearParser, registry.getParser("clear"));
+        assertSame(exitParser, registry.getParser("exit"));
+    }
+
+    @Test
+    public void getParser_startOfOneCommandWord_returnsParser() throws Exception {
+        assertSame(listParser, registry.getParser("l"));
+        assertSame(editParser, registry.getParser("edi"));
+    }
+
+    @Test
+    public void getParser_startOfFullCommandWord_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_FULL_WORD, "clear"), () -> registry.getParser("c"));
+        assertThrows(ParseException.class, String.format(MESSAGE_FULL_WORD, "clear"), () -> registry.getParser("cle"));
+        assertThrows(ParseException.class, String.format(MESSAGE_FULL_WORD, "exit"), () -> registry.getParser("ex"));
+    }
+
+    @Test
+    public void getParser_startOfSeveralCommandWords_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "e", "edit, exit"), ()
+            -> registry.getParser("e"));
+    }
+
+    @Test
+    public void getParser_unknownCommandWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser(""));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("clears"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("x"));
+    }
+
+    @Test
+    public void getCommandWords() {
+        assertEquals(Arrays.asList("clear", "edit", "exit", "list"), registry.getCommandWords());
+        assertEquals(Arrays.asList("edit", "exit"), registry.getCommandWordsStartingWith("e"));
+        assertEquals(Arrays.asList("clear", "edit", "exit", "list"), registry.getCommandWordsStartingWith(""));
+        assertEquals(Collections.emptyList(), registry.getCommandWordsStartingWith("z"));
+
+        assertTrue(registry.hasCommandWord("edit"));
+        assertFalse(registry.hasCommandWord("ed"));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_OPERATION_NOT_ALLOWED;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.RecordExporter;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " contact data/contacts.csv ",
+                new ExportCommand("contact", false, Paths.get("data/contacts.csv"), RecordExporter.Format.CSV));
+        assertParseSuccess(parser, " JOB  --all   data/my jobs.JSONL",
+                new ExportCommand("job", true, Paths.get("data/my jobs.JSONL"), RecordExporter.Format.JSON_LINES));
+        assertParseSuccess(parser, "company --all.csv",
+                new ExportCommand("company", false, Paths.get("--all.csv"), RecordExporter.Format.CSV));
+    }
+
+    @Test
+    public void parse_missingArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, " contact ", expectedMessage);
+        assertParseFailure(parser, " contact --all", expectedMessage);
+    }
+
+    @Test
+    public void parse_unknownFormat_throwsParseException() {
+        assertParseFailure(parser, " contact contacts.txt", String.format(ExportCommandParser.MESSAGE_UNKNOWN_FORMAT,
+                RecordExporter.Format.CSV.getFileExtension(), RecordExporter.Format.JSON_LINES.getFileExtension()));
+    }
+
+    @Test
+    public void parse_allEntities_throwsParseException() {
+        assertParseFailure(parser, " all data.csv",
+                String.format(MESSAGE_OPERATION_NOT_ALLOWED, ExportCommand.COMMAND_WORD, "all"));
+    }
+}
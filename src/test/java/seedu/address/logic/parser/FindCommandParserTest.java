@@ -10,7 +10,13 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindContactQueryCommand;
+import seedu.address.logic.commands.FindJobCommand;
+import seedu.address.logic.commands.FindJobQueryCommand;
+import seedu.address.model.job.JobConditions;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonConditions;
+import seedu.address.model.query.Condition.Operator;
 
 public class FindCommandParserTest {
 
@@ -46,4 +52,49 @@ public class FindCommandParserTest {
                 + " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alcie", "Bbo")), true);
+        assertParseSuccess(parser, FindCommand.ENTITY_WORD + " " + FindCommand.FUZZY_FLAG + "  Alcie Bbo",
+                expectedFindCommand);
+
+        // flag without keywords
+        assertParseFailure(parser, FindCommand.ENTITY_WORD + " " + FindCommand.FUZZY_FLAG,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_jobArgs_returnsFindJobCommand() {
+        FindJobCommand expectedFindJobCommand = new FindJobCommand(Arrays.asList("Java", "jobs"));
+        assertParseSuccess(parser, " " + FindJobCommand.ENTITY_WORD.toUpperCase() + " \n Java \t jobs ",
+                expectedFindJobCommand);
+
+        // entity without keywords
+        assertParseFailure(parser, FindJobCommand.ENTITY_WORD,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_queryFlag_returnsQueryCommand() {
+        FindContactQueryCommand expectedContactCommand = new FindContactQueryCommand(Arrays.asList(
+                PersonConditions.of("skill", Operator.EQUAL, "java"),
+                PersonConditions.of("status", Operator.EQUAL, "unmatched")), false);
+        assertParseSuccess(parser, FindCommand.ENTITY_WORD + " " + FindCommand.QUERY_FLAG
+                + " skill=java and status=unmatched", expectedContactCommand);
+
+        FindJobQueryCommand expectedJobCommand = new FindJobQueryCommand(Arrays.asList(
+                JobConditions.of("salary", Operator.GREATER, "5000")), true);
+        assertParseSuccess(parser, FindJobCommand.ENTITY_WORD + " " + FindCommand.QUERY_FLAG + " salary > 5000  "
+                + FindCommand.EXPLAIN_FLAG, expectedJobCommand);
+
+        // flag without conditions
+        assertParseFailure(parser, FindJobCommand.ENTITY_WORD + " " + FindCommand.QUERY_FLAG + " "
+                + FindCommand.EXPLAIN_FLAG, String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // condition not supported by the entity
+        assertParseFailure(parser, FindCommand.ENTITY_WORD + " " + FindCommand.QUERY_FLAG + " salary>5000",
+                PersonConditions.MESSAGE_CONSTRAINTS);
+    }
+
 }
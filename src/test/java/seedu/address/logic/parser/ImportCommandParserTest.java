@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_OPERATION_NOT_ALLOWED;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " contact data/contacts.csv ",
+                new ImportCommand("contact", Paths.get("data/contacts.csv")));
+        assertParseSuccess(parser, " JOB   data/my jobs.csv", new ImportCommand("job", Paths.get("data/my jobs.csv")));
+        assertParseSuccess(parser, "company companies.csv", new ImportCommand("company", Paths.get("companies.csv")));
+    }
+
+    @Test
+    public void parse_missingArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, " contact ", expectedMessage);
+    }
+
+    @Test
+    public void parse_allEntities_throwsParseException() {
+        assertParseFailure(parser, " all data.csv",
+                String.format(MESSAGE_OPERATION_NOT_ALLOWED, ImportCommand.COMMAND_WORD, "all"));
+    }
+}
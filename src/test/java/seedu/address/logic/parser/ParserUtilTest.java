@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -17,10 +18,16 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.common.Address;
 import seedu.address.model.common.Name;
 import seedu.address.model.company.BillingDate;
+import seedu.address.model.job.Job;
 import seedu.address.model.job.JobCompany;
+import seedu.address.model.job.JobConditions;
 import seedu.address.model.job.JobSalary;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonConditions;
 import seedu.address.model.person.Phone;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.Condition.Operator;
 import seedu.address.model.skill.Skill;
 import seedu.address.model.tag.Tag;
 
@@ -380,4 +387,48 @@ public class ParserUtilTest {
     public void parseEntity_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseEntity(null));
     }
+
+    @Test
+    public void parseConditions_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseConditions(null, JobConditions::of));
+    }
+
+    @Test
+    public void parseConditions_invalidCondition_throwsParseException() {
+        assertThrows(ParseException.class, String.format(ParserUtil.MESSAGE_INVALID_CONDITION, "salary>"), ()
+            -> ParserUtil.parseConditions("company=Google and salary>", JobConditions::of));
+        assertThrows(ParseException.class, String.format(ParserUtil.MESSAGE_INVALID_CONDITION, ">5000"), ()
+            -> ParserUtil.parseConditions(">5000", JobConditions::of));
+        assertThrows(ParseException.class, JobConditions.MESSAGE_CONSTRAINTS, ()
+            -> ParserUtil.parseConditions("salary>five", JobConditions::of));
+        assertThrows(ParseException.class, PersonConditions.MESSAGE_CONSTRAINTS, ()
+            -> ParserUtil.parseConditions("salary>5000", PersonConditions::of));
+    }
+
+    @Test
+    public void parseConditions_validConditions_returnsConditions() throws Exception {
+        List<Condition<Job>> expectedJobConditions = Arrays.asList(
+                JobConditions.of("company", Operator.EQUAL, "Google LLC"),
+                JobConditions.of("salary", Operator.GREATER, "5000"));
+        assertEquals(expectedJobConditions,
+                ParserUtil.parseConditions(" Company = Google LLC AND salary>5000 ", JobConditions::of));
+
+        List<Condition<Person>> expectedPersonConditions = Arrays.asList(
+                PersonConditions.of("role", Operator.CONTAINS, "engineer"),
+                PersonConditions.of("skill", Operator.EQUAL, "java"),
+                PersonConditions.of("status", Operator.EQUAL, "unmatched"));
+        assertEquals(expectedPersonConditions, ParserUtil.parseConditions(
+                "role~engineer and skill=java and status=unmatched", PersonConditions::of));
+    }
+
+    @Test
+    public void parseConditions_valueContainsAnd_valueKept() throws Exception {
+        List<Condition<Job>> expectedConditions = Arrays.asList(
+                JobConditions.of("company", Operator.EQUAL, "Johnson and Johnson"),
+                JobConditions.of("salary", Operator.AT_LEAST, "3000"));
+        assertEquals(expectedConditions, ParserUtil.parseConditions(
+                "company=Johnson and Johnson and salary>=3000", JobConditions::of));
+        assertEquals(Arrays.asList(JobConditions.of("company", Operator.EQUAL, "Johnson and Johnson")),
+                ParserUtil.parseConditions("company=Johnson and Johnson", JobConditions::of));
+    }
 }
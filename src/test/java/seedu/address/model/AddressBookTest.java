@@ -6,7 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ROLE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SKILL_PYTHON;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.GOOGLE;
+import static seedu.address.testutil.TypicalCompanies.NUS;
+import static seedu.address.testutil.TypicalJobs.SWE;
+import static seedu.address.testutil.TypicalJobs.TA;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -19,7 +24,9 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.exceptions.CompanyNotFoundException;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.exceptions.JobNotFoundException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -56,6 +63,34 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getModificationCount_changedOnlyByModifications() {
+        long modificationCount = addressBook.getModificationCount();
+
+        // queries -> unchanged
+        addressBook.hasPerson(ALICE);
+        addressBook.hasCompany(NUS);
+        addressBook.getPersonList();
+        assertEquals(modificationCount, addressBook.getModificationCount());
+
+        // failed modification -> unchanged
+        assertThrows(CompanyNotFoundException.class, () -> addressBook.addJob(TA));
+        assertEquals(modificationCount, addressBook.getModificationCount());
+
+        // each kind of entity modified -> increased
+        addressBook.addCompany(NUS);
+        assertTrue(addressBook.getModificationCount() > modificationCount);
+        modificationCount = addressBook.getModificationCount();
+        addressBook.addJob(TA);
+        assertTrue(addressBook.getModificationCount() > modificationCount);
+        modificationCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > modificationCount);
+        modificationCount = addressBook.getModificationCount();
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > modificationCount);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -80,6 +115,63 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void addPerson_matchedJobNotInAddressBook_throwsJobNotFoundException() {
+        Person matchedAlice = new PersonBuilder(ALICE).withMatch(TA.getIdentifier()).build();
+        assertThrows(JobNotFoundException.class, () -> addressBook.addPerson(matchedAlice));
+    }
+
+    @Test
+    public void addJob_companyNotInAddressBook_throwsCompanyNotFoundException() {
+        assertThrows(CompanyNotFoundException.class, () -> addressBook.addJob(TA));
+    }
+
+    @Test
+    public void removeJob_matchedPersons_unmatchesOnlyThosePersons() {
+        addressBook.addCompany(NUS);
+        addressBook.addCompany(GOOGLE);
+        addressBook.addJob(TA);
+        addressBook.addJob(SWE);
+        Person matchedAlice = new PersonBuilder(ALICE).withMatch(TA.getIdentifier()).build();
+        Person matchedBenson = new PersonBuilder(BENSON).withMatch(SWE.getIdentifier()).build();
+        addressBook.addPerson(matchedAlice);
+        addressBook.addPerson(matchedBenson);
+
+        addressBook.removeJob(TA);
+
+        assertEquals(Arrays.asList(new PersonBuilder(ALICE).build(), matchedBenson), addressBook.getPersonList());
+        assertEquals(Collections.singletonList(SWE), addressBook.getJobList());
+    }
+
+    @Test
+    public void removeCompany_withJobsAndMatchedPersons_cascades() {
+        addressBook.addCompany(NUS);
+        addressBook.addCompany(GOOGLE);
+        addressBook.addJob(TA);
+        addressBook.addJob(SWE);
+        Person matchedAlice = new PersonBuilder(ALICE).withMatch(TA.getIdentifier()).build();
+        addressBook.addPerson(matchedAlice);
+
+        addressBook.removeCompany(NUS);
+
+        assertEquals(Collections.singletonList(GOOGLE), addressBook.getCompanyList());
+        assertEquals(Collections.singletonList(SWE), addressBook.getJobList());
+        assertEquals(Collections.singletonList(new PersonBuilder(ALICE).build()), addressBook.getPersonList());
+        assertThrows(CompanyNotFoundException.class, () -> addressBook.addJob(TA));
+    }
+
+    @Test
+    public void isMatchedToCompany() {
+        addressBook.addCompany(NUS);
+        addressBook.addJob(TA);
+        Person matchedAlice = new PersonBuilder(ALICE).withMatch(TA.getIdentifier()).build();
+        addressBook.addPerson(matchedAlice);
+
+        assertTrue(addressBook.isMatchedToCompany(matchedAlice, NUS.getName()));
+        assertFalse(addressBook.isMatchedToCompany(matchedAlice, GOOGLE.getName()));
+        assertFalse(addressBook.isMatchedToCompany(BENSON, NUS.getName()));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
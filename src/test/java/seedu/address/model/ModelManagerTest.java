@@ -3,8 +3,12 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_JOBS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalJobs.BARISTA;
+import static seedu.address.testutil.TypicalJobs.SWE;
+import static seedu.address.testutil.TypicalJobs.TA;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
@@ -15,8 +19,16 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobConditions;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonConditions;
+import seedu.address.model.query.Condition.Operator;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.JobBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalCompanies;
 
 public class ModelManagerTest {
 
@@ -93,6 +105,85 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonListByName_personChanged_filterFollowsName() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(Arrays.asList("ALICE")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // changed without changing the name -> still shown
+        Person editedAlice = new PersonBuilder(ALICE).withRole("Tester").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+
+        // renamed -> no longer shown
+        modelManager.setPerson(editedAlice, new PersonBuilder(editedAlice).withName("Alicia Pauline").build());
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByQuery_personChanged_filterFollowsConditions() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.updateFilteredPersonListByQuery(Arrays.asList(
+                PersonConditions.of(PersonConditions.FIELD_ROLE, Operator.CONTAINS, "teacher")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // changed to meet the conditions -> shown
+        Person editedBenson = new PersonBuilder(BENSON).withRole("Teacher").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+
+        // changed to no longer meet the conditions -> no longer shown
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withRole("Tester").build());
+        assertEquals(Arrays.asList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredJobListByQuery_jobChanged_filterFollowsConditions() {
+        modelManager.setAddressBook(TypicalCompanies.getTypicalAddressBook());
+        modelManager.addJob(TA);
+        modelManager.addJob(SWE);
+        modelManager.updateFilteredJobListByQuery(Arrays.asList(
+                JobConditions.of(JobConditions.FIELD_NAME, Operator.CONTAINS, "software")));
+        assertEquals(Arrays.asList(SWE), modelManager.getFilteredJobList());
+
+        // changed to meet the conditions -> shown
+        Job editedTa = new JobBuilder(TA).withName("Software Teaching Assistant").build();
+        modelManager.setJob(TA, editedTa);
+        assertEquals(Arrays.asList(editedTa, SWE), modelManager.getFilteredJobList());
+    }
+
+    @Test
+    public void updateFilteredPersonListBySimilarName_typos_rankedUntilFilterChanged() {
+        Person alise = new PersonBuilder().withName("Alise Tan").withPhone("99999999")
+                .withEmail("alise@example.com").build();
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(alise).withPerson(BENSON).withPerson(ALICE)
+                .build());
+
+        modelManager.updateFilteredPersonListBySimilarName(Arrays.asList("alice"));
+        assertEquals(Arrays.asList(ALICE, alise), modelManager.getFilteredPersonList());
+
+        // any other filter -> usual order
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(alise, BENSON, ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredJobListByRelevance_keywords_rankedUntilFilterChanged() {
+        modelManager.setAddressBook(TypicalCompanies.getTypicalAddressBook());
+        modelManager.addJob(TA);
+        modelManager.addJob(SWE);
+        modelManager.addJob(BARISTA);
+
+        // Starbucks occurs twice in the barista job, and weekly once in the teaching assistant job
+        modelManager.updateFilteredJobListByRelevance(Arrays.asList("weekly", "starbucks"), 10);
+        assertEquals(Arrays.asList(BARISTA, TA), modelManager.getFilteredJobList());
+
+        // any other filter -> usual order
+        modelManager.updateFilteredJobList(PREDICATE_SHOW_ALL_JOBS);
+        assertEquals(Arrays.asList(TA, SWE, BARISTA), modelManager.getFilteredJobList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,5 +1,6 @@
 package seedu.address.model.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,15 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void ofValidated() {
+        // valid name -> same as constructor
+        assertEquals(new Name("Valid Name"), Name.ofValidated("Valid Name"));
+
+        // invalid name -> not checked
+        assertEquals("", Name.ofValidated("").fullName);
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -0,0 +1,43 @@
+package seedu.address.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalJobs.SWE;
+import static seedu.address.testutil.TypicalJobs.TA;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.query.Condition.Operator;
+
+public class JobConditionsTest {
+
+    @Test
+    public void of_unsupportedCondition_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, JobConditions.MESSAGE_CONSTRAINTS, ()
+            -> JobConditions.of("description", Operator.CONTAINS, "tutorial"));
+        assertThrows(IllegalArgumentException.class, JobConditions.MESSAGE_CONSTRAINTS, ()
+            -> JobConditions.of("salary", Operator.GREATER, "5k"));
+        assertThrows(IllegalArgumentException.class, JobConditions.MESSAGE_CONSTRAINTS, ()
+            -> JobConditions.of("salary", Operator.CONTAINS, "5000"));
+        assertThrows(IllegalArgumentException.class, JobConditions.MESSAGE_CONSTRAINTS, ()
+            -> JobConditions.of("company", Operator.CONTAINS, "Google"));
+    }
+
+    @Test
+    public void of_validConditions_correctResult() {
+        assertTrue(JobConditions.of("name", Operator.CONTAINS, "teaching").test(TA));
+        assertTrue(JobConditions.of("company", Operator.EQUAL, "google llc").test(SWE));
+        assertFalse(JobConditions.of("company", Operator.EQUAL, "google").test(SWE));
+        assertTrue(JobConditions.of("requirement", Operator.EQUAL, "DOCKER").test(SWE));
+
+        // TA pays 2000 and SWE 3000
+        assertTrue(JobConditions.of("salary", Operator.EQUAL, "2000").test(TA));
+        assertTrue(JobConditions.of("salary", Operator.LESS, "3000").test(TA));
+        assertFalse(JobConditions.of("salary", Operator.LESS, "3000").test(SWE));
+        assertTrue(JobConditions.of("salary", Operator.AT_MOST, "3000").test(SWE));
+        assertTrue(JobConditions.of("salary", Operator.GREATER, "2000").test(SWE));
+        assertFalse(JobConditions.of("salary", Operator.GREATER, "2000").test(TA));
+        assertTrue(JobConditions.of("salary", Operator.AT_LEAST, "2000").test(TA));
+    }
+}
@@ -9,14 +9,20 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_JOB_SALARY_BARI
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalJobs.BARISTA;
 import static seedu.address.testutil.TypicalJobs.SWE;
+import static seedu.address.testutil.TypicalJobs.TA;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.job.exceptions.DuplicateJobException;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.Condition.Operator;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.testutil.JobBuilder;
 
 class UniqueJobListTest {
@@ -49,6 +55,26 @@ class UniqueJobListTest {
         assertTrue(uniqueJobList.contains(editedSwe));
     }
 
+    @Test
+    public void contains_jobWithNameInOtherCase_returnsTrue() {
+        uniqueJobList.add(SWE);
+        assertTrue(uniqueJobList.contains(new JobBuilder(SWE).withName(SWE.getName().fullName.toUpperCase()).build()));
+    }
+
+    @Test
+    public void contains_jobRemovedOrReplaced_returnsFalse() {
+        uniqueJobList.add(SWE);
+        uniqueJobList.setJob(SWE, BARISTA);
+        assertFalse(uniqueJobList.contains(SWE));
+        assertTrue(uniqueJobList.contains(BARISTA));
+
+        uniqueJobList.remove(BARISTA);
+        assertFalse(uniqueJobList.contains(BARISTA));
+
+        uniqueJobList.setJobs(List.of(SWE));
+        assertTrue(uniqueJobList.contains(SWE));
+    }
+
     @Test
     public void add_nullJob_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueJobList.add(null));
@@ -95,6 +121,75 @@ class UniqueJobListTest {
         assertThrows(DuplicateJobException.class, () -> uniqueJobList.setJobs(listWithDuplicateJobs));
     }
 
+    @Test
+    public void findRelevantJobs_keywords_rankedByRelevance() {
+        Job javaJob = new JobBuilder().withName("Java Developer").withCompany("Acme")
+                .withDescription("Write Java code").withRequirements("Python").build();
+        Job pythonJob = new JobBuilder().withName("Data Analyst").withCompany("Acme")
+                .withDescription("Analyse data").withRequirements("Python").build();
+        uniqueJobList.setJobs(Arrays.asList(TA, javaJob, pythonJob));
+
+        // jobs without any keyword -> not found
+        Map<Job, Double> scores = uniqueJobList.findRelevantJobs(Arrays.asList("JAVA", "python"), 10);
+        assertEquals(Set.of(javaJob, pythonJob), scores.keySet());
+        assertTrue(scores.get(javaJob) > scores.get(pythonJob));
+
+        // limit -> only the most relevant jobs
+        assertEquals(Set.of(javaJob), uniqueJobList.findRelevantJobs(Arrays.asList("java", "python"), 1).keySet());
+        assertTrue(uniqueJobList.findRelevantJobs(Arrays.asList("java"), 0).isEmpty());
+
+        // keywords not in any job -> none found
+        assertTrue(uniqueJobList.findRelevantJobs(Arrays.asList("kotlin", "!!"), 10).isEmpty());
+    }
+
+    @Test
+    public void findRelevantJobs_jobsChanged_indexFollowsChanges() {
+        uniqueJobList.add(TA);
+        uniqueJobList.add(SWE);
+        Job editedTa = new JobBuilder(TA).withDescription("Grade weekly quizzes").build();
+        uniqueJobList.setJob(TA, editedTa);
+        assertTrue(uniqueJobList.findRelevantJobs(Arrays.asList("tutorial"), 10).isEmpty());
+        assertEquals(Set.of(editedTa), uniqueJobList.findRelevantJobs(Arrays.asList("quizzes"), 10).keySet());
+
+        // removed through an equal job -> no longer found
+        uniqueJobList.remove(new JobBuilder(SWE).build());
+        assertTrue(uniqueJobList.findRelevantJobs(Arrays.asList("google"), 10).isEmpty());
+        assertEquals(Set.of(editedTa), uniqueJobList.findRelevantJobs(Arrays.asList("weekly", "google"), 10)
+                .keySet());
+    }
+
+    @Test
+    public void planQuery_salaryRange_lookedUpInIndex() {
+        // TA pays 2000, BARISTA 2500 and SWE 3000
+        uniqueJobList.setJobs(Arrays.asList(TA, SWE, BARISTA));
+        Condition<Job> atLeast2500 = JobConditions.of(JobConditions.FIELD_SALARY, Operator.AT_LEAST, "2500");
+        QueryPlan<Job> plan = uniqueJobList.planQuery(Arrays.asList(
+                JobConditions.of(JobConditions.FIELD_NAME, Operator.CONTAINS, "software"), atLeast2500));
+        assertEquals(2, plan.getCandidateCount());
+        assertEquals(Set.of(SWE), plan.execute());
+        assertEquals("Plan: look up salary>=2500 in an index, giving 2 of the jobs, then check name~software on each.",
+                plan.getDescription());
+
+        assertEquals(1, uniqueJobList.planQuery(Arrays.asList(
+                JobConditions.of(JobConditions.FIELD_SALARY, Operator.GREATER, "2500"))).getCandidateCount());
+        assertEquals(Set.of(TA, BARISTA), uniqueJobList.planQuery(Arrays.asList(
+                JobConditions.of(JobConditions.FIELD_SALARY, Operator.AT_MOST, "2500"))).execute());
+        assertEquals(Set.of(TA), uniqueJobList.planQuery(Arrays.asList(
+                JobConditions.of(JobConditions.FIELD_SALARY, Operator.LESS, "2500"))).execute());
+
+        // salary changed or job removed -> index follows
+        Job raisedTa = new JobBuilder(TA).withSalary("2500").build();
+        uniqueJobList.setJob(TA, raisedTa);
+        uniqueJobList.remove(new JobBuilder(SWE).build());
+        assertEquals(Set.of(raisedTa, BARISTA), uniqueJobList.planQuery(Arrays.asList(
+                JobConditions.of(JobConditions.FIELD_SALARY, Operator.EQUAL, "2500"))).execute());
+        assertEquals(2, uniqueJobList.planQuery(Arrays.asList(atLeast2500)).getCandidateCount());
+
+        // no indexed condition -> all jobs scanned
+        assertEquals("Plan: scan all 2 jobs, then check company=NUS on each.", uniqueJobList.planQuery(Arrays.asList(
+                JobConditions.of(JobConditions.FIELD_COMPANY, Operator.EQUAL, "NUS"))).getDescription());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> uniqueJobList.asUnmodifiableObservableList().remove(0));
@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.Condition.Operator;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonConditionsTest {
+
+    @Test
+    public void of_unsupportedCondition_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, PersonConditions.MESSAGE_CONSTRAINTS, ()
+            -> PersonConditions.of("phone", Operator.EQUAL, "94351253"));
+        assertThrows(IllegalArgumentException.class, PersonConditions.MESSAGE_CONSTRAINTS, ()
+            -> PersonConditions.of("skill", Operator.GREATER, "java"));
+        assertThrows(IllegalArgumentException.class, PersonConditions.MESSAGE_CONSTRAINTS, ()
+            -> PersonConditions.of("name", Operator.CONTAINS, "Alice Pauline"));
+        assertThrows(IllegalArgumentException.class, PersonConditions.MESSAGE_CONSTRAINTS, ()
+            -> PersonConditions.of("status", Operator.EQUAL, "hired"));
+    }
+
+    @Test
+    public void of_validConditions_correctResult() {
+        assertTrue(PersonConditions.of("name", Operator.CONTAINS, "PAULINE").test(ALICE));
+        assertFalse(PersonConditions.of("name", Operator.CONTAINS, "Paul").test(ALICE));
+        assertTrue(PersonConditions.of("role", Operator.CONTAINS, "teacher").test(ALICE));
+        assertTrue(PersonConditions.of("skill", Operator.EQUAL, "blender").test(BENSON));
+        assertFalse(PersonConditions.of("skill", Operator.EQUAL, "blender").test(ALICE));
+
+        Condition<Person> unmatched = PersonConditions.of("status", Operator.EQUAL, "Unmatched");
+        assertEquals("status=unmatched", unmatched.toString());
+        assertTrue(unmatched.test(ALICE));
+        assertFalse(unmatched.test(new PersonBuilder(ALICE).withMatch("Google::Engineer").build()));
+    }
+}
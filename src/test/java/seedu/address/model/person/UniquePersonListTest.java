@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ROLE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SKILL_PYTHON;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -12,11 +14,17 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.Condition.Operator;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +55,29 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void containsOther_onlyTargetHasSameIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withRole(VALID_ROLE_BOB).build();
+        assertFalse(uniquePersonList.containsOther(ALICE, editedAlice));
+    }
+
+    @Test
+    public void containsOther_otherPersonHasSamePhone_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertTrue(uniquePersonList.containsOther(ALICE, editedAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -109,6 +140,23 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonSharesEmailWithAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_identityChanged_oldIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +175,71 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void getNameContainsKeywordsPredicate_keywords_sameAsNameContainsKeywordsPredicate() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        List<List<String>> keywordLists = Arrays.asList(List.of("alice"), List.of("CHOO", "pauline"),
+                List.of("Ali"), List.of("carl"), List.of());
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate expectedPredicate = new NameContainsKeywordsPredicate(keywords);
+            for (Person person : Arrays.asList(ALICE, BOB)) {
+                assertEquals(expectedPredicate.test(person),
+                        uniquePersonList.getNameContainsKeywordsPredicate(keywords).test(person));
+            }
+        }
+    }
+
+    @Test
+    public void getNameContainsKeywordsPredicate_listChanged_followsChanges() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> predicate = uniquePersonList.getNameContainsKeywordsPredicate(List.of("alice", "bob"));
+        assertTrue(predicate.test(ALICE));
+
+        // renamed -> old name no longer found
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Carol Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertFalse(predicate.test(renamedAlice));
+
+        // added -> found
+        uniquePersonList.add(BOB);
+        assertTrue(predicate.test(BOB));
+
+        // removed through an equal person -> not found
+        uniquePersonList.remove(new PersonBuilder(BOB).build());
+        assertFalse(predicate.test(BOB));
+    }
+
+    @Test
+    public void findSimilarNames_keywordsWithTypos_similarNamesFound() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+
+        Map<Person, Double> similarities = uniquePersonList.findSimilarNames(List.of("ALCIE"));
+        assertEquals(Set.of(ALICE), similarities.keySet());
+        assertEquals(0.8, similarities.get(ALICE), 1e-9); // one swap in five letters
+
+        // each keyword adds the similarity of its closest word
+        similarities = uniquePersonList.findSimilarNames(List.of("alice", "paulien", "alise"));
+        assertEquals(1 + (1 - 1.0 / 7) + (1 - 1.0 / 5), similarities.get(ALICE), 1e-9);
+
+        // short keywords must match exactly
+        assertTrue(uniquePersonList.findSimilarNames(List.of("Bb")).isEmpty());
+
+        // too many typos
+        assertTrue(uniquePersonList.findSimilarNames(List.of("Alxxe")).isEmpty());
+    }
+
+    @Test
+    public void findSimilarNames_listChanged_indexFollowsChanges() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Carol Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertTrue(uniquePersonList.findSimilarNames(List.of("alcie")).isEmpty());
+        assertEquals(0.8, uniquePersonList.findSimilarNames(List.of("carlo")).get(renamedAlice), 1e-9);
+
+        uniquePersonList.remove(renamedAlice);
+        assertTrue(uniquePersonList.findSimilarNames(List.of("carlo")).isEmpty());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +275,48 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSamePhone_throwsDuplicatePersonException() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, bobWithAlicePhone);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void planQuery_indexedConditions_indexesFollowChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<Condition<Person>> conditions = Arrays.asList(
+                PersonConditions.of(PersonConditions.FIELD_STATUS, Operator.EQUAL, PersonConditions.STATUS_UNMATCHED),
+                PersonConditions.of(PersonConditions.FIELD_SKILL, Operator.EQUAL, VALID_SKILL_PYTHON.toUpperCase()));
+
+        // both unmatched, only Bob knows python -> skill looked up
+        QueryPlan<Person> plan = uniquePersonList.planQuery(conditions);
+        assertEquals(1, plan.getCandidateCount());
+        assertEquals(Set.of(BOB), plan.execute());
+
+        // Bob matched -> status looked up
+        Person matchedBob = new PersonBuilder(BOB).withMatch("Google::Engineer").build();
+        uniquePersonList.setPerson(BOB, matchedBob);
+        plan = uniquePersonList.planQuery(conditions);
+        assertEquals(Set.of(), plan.execute());
+        assertEquals(1, plan.getCandidateCount());
+        assertTrue(plan.getDescription().startsWith("Plan: look up status=unmatched"));
+
+        // Bob removed -> no longer matched
+        uniquePersonList.remove(matchedBob);
+        assertEquals(0, uniquePersonList.planQuery(Arrays.asList(
+                PersonConditions.of(PersonConditions.FIELD_STATUS, Operator.EQUAL, PersonConditions.STATUS_MATCHED)))
+                .getCandidateCount());
+
+        // names -> looked up by word
+        plan = uniquePersonList.planQuery(Arrays.asList(
+                PersonConditions.of(PersonConditions.FIELD_ROLE, Operator.CONTAINS, "teacher"),
+                PersonConditions.of(PersonConditions.FIELD_NAME, Operator.CONTAINS, "alice")));
+        assertEquals(Set.of(ALICE), plan.execute());
+        assertTrue(plan.getDescription().startsWith("Plan: look up name~alice"));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
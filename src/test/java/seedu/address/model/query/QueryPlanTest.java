@@ -0,0 +1,105 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.query.Condition.Operator;
+
+public class QueryPlanTest {
+
+    private static final List<String> WORDS = Arrays.asList("apple", "avocado", "banana", "blueberry", "cherry");
+
+    private static final Condition<String> STARTS_WITH_A =
+            new Condition<>("first", Operator.EQUAL, "a", word -> word.startsWith("a"));
+    private static final Condition<String> STARTS_WITH_B =
+            new Condition<>("first", Operator.EQUAL, "b", word -> word.startsWith("b"));
+    private static final Condition<String> HAS_R = new Condition<>("letter", Operator.CONTAINS, "r",
+            word -> word.contains("r"));
+
+    /**
+     * Returns the words meeting a condition on their first letter, as if from an index.
+     */
+    private static Optional<Collection<String>> lookUp(Condition<String> condition) {
+        if (!condition.getField().equals("first")) {
+            return Optional.empty();
+        }
+        return Optional.of(WORDS.stream().filter(condition).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> QueryPlan.of("words", WORDS, null, QueryPlanTest::lookUp));
+    }
+
+    @Test
+    public void of_indexedConditions_mostSelectiveLookedUp() {
+        QueryPlan<String> plan = QueryPlan.of("words", WORDS, Arrays.asList(HAS_R, STARTS_WITH_A, STARTS_WITH_B),
+                QueryPlanTest::lookUp);
+        assertEquals(2, plan.getCandidateCount());
+        assertEquals(Set.of(), plan.execute());
+        assertEquals("Plan: look up first=a in an index, giving 2 of the words, then check letter~r and first=b on "
+                + "each.", plan.getDescription());
+
+        // only one indexed condition -> looked up without checking it again
+        plan = QueryPlan.of("words", WORDS, Arrays.asList(HAS_R, STARTS_WITH_B), QueryPlanTest::lookUp);
+        assertEquals(Set.of("blueberry"), plan.execute());
+        assertEquals("Plan: look up first=b in an index, giving 2 of the words, then check letter~r on each.",
+                plan.getDescription());
+        assertEquals("Plan: look up first=b in an index, giving 2 of the words.",
+                QueryPlan.of("words", WORDS, Arrays.asList(STARTS_WITH_B), QueryPlanTest::lookUp).getDescription());
+    }
+
+    @Test
+    public void of_noIndexedCondition_allScanned() {
+        QueryPlan<String> plan = QueryPlan.of("words", WORDS, Arrays.asList(HAS_R), QueryPlanTest::lookUp);
+        assertEquals(5, plan.getCandidateCount());
+        assertEquals(Set.of("blueberry", "cherry"), plan.execute());
+        assertEquals("Plan: scan all 5 words, then check letter~r on each.", plan.getDescription());
+    }
+
+    @Test
+    public void applyTo_entitiesChanged_onlyChangedEntitiesChecked() {
+        ObservableList<String> words = FXCollections.observableArrayList(WORDS);
+        FilteredList<String> filtered = new FilteredList<>(words);
+        List<String> checked = new ArrayList<>();
+        Condition<String> hasR = new Condition<>("letter", Operator.CONTAINS, "r", word -> {
+            checked.add(word);
+            return word.contains("r");
+        });
+        QueryPlan<String> plan = QueryPlan.of("words", words, Arrays.asList(STARTS_WITH_B, hasR),
+                QueryPlanTest::lookUp);
+        plan.applyTo(filtered);
+        assertEquals(Arrays.asList("blueberry"), filtered);
+        assertEquals(Arrays.asList("banana", "blueberry"), checked);
+
+        checked.clear();
+        words.set(words.indexOf("banana"), "bramble");
+        words.add("berry");
+        words.add("bean");
+        assertEquals(Arrays.asList("bramble", "blueberry", "berry"), filtered);
+        assertEquals(Arrays.asList("bramble", "berry", "bean"), checked);
+    }
+
+    @Test
+    public void equals_condition() {
+        Condition<String> copy = new Condition<>("first", Operator.EQUAL, "a", word -> false);
+        assertEquals(STARTS_WITH_A, copy);
+        assertEquals(STARTS_WITH_A.hashCode(), copy.hashCode());
+        assertEquals("first=a", copy.toString());
+        assertEquals(Optional.of(Operator.AT_LEAST), Operator.of(">="));
+        assertEquals(Optional.empty(), Operator.of("=>"));
+    }
+}
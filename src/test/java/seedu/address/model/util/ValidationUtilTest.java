@@ -0,0 +1,167 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.common.Address;
+import seedu.address.model.common.Name;
+import seedu.address.model.company.BillingDate;
+import seedu.address.model.job.JobSalary;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Checks that the validation of each field accepts exactly the strings that it accepted when it was done with regexes
+ * and exceptions.
+ */
+public class ValidationUtilTest {
+
+    /** Characters that random test strings are made of, covering every class of character the checks tell apart. */
+    private static final char[] ALPHABET = {
+        'a', 'Z', '0', '9', ' ', '@', '.', '-', '_', '+', ',', '*', '\t', '\n', '\r', '\u000B', 0x85, 0x2028, 0x0663,
+        0xFF11, 'é'
+    };
+    private static final int RANDOM_STRING_COUNT = 50_000;
+    private static final int MAX_RANDOM_STRING_LENGTH = 12;
+
+    /** The test vectors of the field tests, and strings around the edges of each format. */
+    private static final List<String> VECTORS = Arrays.asList(
+            // from the tests of the fields
+            "", " ", "-", "^", "peter*", "peter jack", "12345", "peter the 2nd", "Capital Tan",
+            "David Roger Jackson Ray Jr 2nd", "Blk 456, Den Road, #01-355",
+            "Leng Inc; 1234 Market St; San Francisco CA 2349879; USA", "0", "1", "12", "28", "29", "abc",
+            "91", "911", "93121534", "124293842033123", "9011p041", "9312 1534", "phone",
+            "2500", "25 00", "25.00", "25K", "two-grand",
+            "@example.com", "peterjackexample.com", "peterjack@", "peterjack@-", "peterjack@exam_ple.com",
+            "peter jack@example.com", "peterjack@exam ple.com", " peterjack@example.com", "peterjack@example.com ",
+            "peterjack@@example.com", "peter@jack@example.com", "-peterjack@example.com", "peterjack-@example.com",
+            "peter..jack@example.com", "peterjack@example@com", "peterjack@-example.com", "peterjack@example.com-",
+            "peterjack@.example.com", "peterjack@example.com.", "peterjack@example.c", "PeterJack_1190@example.com",
+            "PeterJack.1190@example.com", "PeterJack+1190@example.com", "PeterJack-1190@example.com", "a@bc",
+            "test@localhost", "123@145", "a1+be.d@example1.com", "peter_jack@very-very-very-long-example.com",
+            "if.you.dream.it_you.can.do.it@example.com", "e1234567@u.nus.edu",
+            // edges of the formats
+            "a", "a ", " a", "a,b.c-d", "a\n", "a\nb", "a\rb", "a\u000Bb", "\u000Bab", "a\u0085b", "\u0085ab",
+            "a b", " ab", "\tab", "é", "aé", "01", "00", "001", "1 ", "+1", "-1", "٣", "١٢",
+            "123456789012345", "1234567890123456", "2147483647", "2147483648", "-2147483648", "-2147483649",
+            "+2147483647", "00000000002147483647", "+", "-", "+-1", "١٢٣", "12٣", "a@b", "a@b.cd", "a@b-c",
+            "a@b-c.d", "a@b.c-d", "a@b--c.de", "a@b.-c.de", "a@b..cd", "a@.cd", "a+@bc", "a+_b@cd", "a.b@c_d.ef",
+            "ab@cd\n", "ab@c\nd", "_a@bc", "a_@bc", "a_b@bc", "a@b.c.de");
+
+    @Test
+    public void isValidName_sameAsRegex() {
+        assertSameAsRegex(Name.VALIDATION_REGEX, Name::isValidName);
+    }
+
+    @Test
+    public void isValidAddress_sameAsRegex() {
+        assertSameAsRegex(Address.VALIDATION_REGEX, Address::isValidAddress);
+    }
+
+    @Test
+    public void isValidEmail_sameAsRegex() {
+        assertSameAsRegex(Email.VALIDATION_REGEX, Email::isValidEmail);
+    }
+
+    @Test
+    public void isValidPhone_sameAsRegex() {
+        assertSameAsRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone);
+    }
+
+    @Test
+    public void isValidRole_sameAsRegex() {
+        assertSameAsRegex(Role.VALIDATION_REGEX, Role::isValidRole);
+    }
+
+    @Test
+    public void isValidSkillName_sameAsRegex() {
+        assertSameAsRegex(Skill.VALIDATION_REGEX, Skill::isValidSkillName);
+    }
+
+    @Test
+    public void isValidTagName_sameAsRegex() {
+        assertSameAsRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName);
+    }
+
+    @Test
+    public void isValidBillingDate_sameAsParsing() {
+        assertSame(test -> {
+            try {
+                int intTest = Integer.parseInt(test);
+                return test.matches(BillingDate.VALIDATION_REGEX) && ((intTest >= 1) && (intTest <= 28));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }, BillingDate::isValidBillingDate);
+    }
+
+    @Test
+    public void isValidSalary_sameAsParsing() {
+        assertSame(test -> {
+            try {
+                Integer.parseInt(test);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            return true;
+        }, JobSalary::isValidSalary);
+    }
+
+    @Test
+    public void isInt() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isInt(null));
+
+        assertTrue(ValidationUtil.isInt("-2147483648")); // smallest int
+        assertTrue(ValidationUtil.isInt("٣")); // digit of another script
+        assertFalse(ValidationUtil.isInt("2147483648")); // largest int + 1
+        assertFalse(ValidationUtil.isInt("-")); // sign only
+    }
+
+    @Test
+    public void isEmail() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isEmail(null));
+
+        assertTrue(ValidationUtil.isEmail("a-b@c-d.e-f")); // hyphenated labels
+        assertFalse(ValidationUtil.isEmail("a@b--c.de")); // consecutive hyphens in domain label
+        assertFalse(ValidationUtil.isEmail("a@b.c")); // last domain label of one character
+    }
+
+    private static void assertSameAsRegex(String regex, Predicate<String> check) {
+        Pattern pattern = Pattern.compile(regex);
+        assertSame(test -> pattern.matcher(test).matches(), check);
+    }
+
+    /**
+     * Asserts that {@code check} gives the same result as {@code expected} for the test vectors, and for random
+     * strings made of characters of every class.
+     */
+    private static void assertSame(Predicate<String> expected, Predicate<String> check) {
+        List<String> tests = new ArrayList<>(VECTORS);
+        Random random = new Random(2103);
+        for (int i = 0; i < RANDOM_STRING_COUNT; i++) {
+            char[] chars = new char[random.nextInt(MAX_RANDOM_STRING_LENGTH + 1)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = ALPHABET[random.nextInt(ALPHABET.length)];
+            }
+            tests.add(new String(chars));
+        }
+
+        for (String test : tests) {
+            assertEquals(expected.test(test), check.test(test), () -> "Different result for \"" + test + "\"");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures the throughput of saving a large address book, comparing the storage's atomic, channel-based write path
+ * with writing the whole JSON text in one {@code Files.write} call on the live file.
+ * <p>
+ * Not run as part of the tests. Run {@link #main(String[])} with the number of persons and the number of rounds as
+ * optional arguments, e.g. {@code AddressBookSaveBenchmark 100000 5}.
+ */
+public class AddressBookSaveBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+    private static final int DEFAULT_ROUNDS = 5;
+
+    /**
+     * Runs the benchmark and prints the time and throughput of each write path.
+     */
+    public static void main(String[] args) throws IOException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        AddressBook addressBook = createAddressBook(personCount);
+        Path folder = Files.createTempDirectory("save-benchmark");
+        Path filePath = folder.resolve("addressbook.json");
+
+        try {
+            // warm up the JIT before measuring
+            for (int i = 0; i < 2; i++) {
+                new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+                writeWholeText(addressBook, filePath);
+            }
+
+            long atomicNanos = 0;
+            long cachedNanos = 0;
+            long wholeTextNanos = 0;
+            JsonAddressBookStorage cachingStorage = new JsonAddressBookStorage(filePath);
+            cachingStorage.saveAddressBook(addressBook);
+            for (int i = 0; i < rounds; i++) {
+                long start = System.nanoTime();
+                new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+                atomicNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                cachingStorage.saveAddressBook(addressBook);
+                cachedNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                writeWholeText(addressBook, filePath);
+                wholeTextNanos += System.nanoTime() - start;
+            }
+
+            long fileSize = Files.size(filePath);
+            System.out.printf("%d persons, %.1f MB per save, %d rounds%n", personCount, fileSize / 1e6, rounds);
+            report("atomic channel write", atomicNanos, rounds, fileSize);
+            report("atomic channel write, cached records", cachedNanos, rounds, fileSize);
+            report("Files.write of whole text", wholeTextNanos, rounds, fileSize);
+        } finally {
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(folder);
+        }
+    }
+
+    private static AddressBook createAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withSkills("Java", "Skill" + (i % 100))
+                    .build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code addressBook} the way data files were written before saves were streamed and atomic.
+     */
+    private static void writeWholeText(AddressBook addressBook, Path filePath) throws IOException {
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        Files.write(filePath, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void report(String writePath, long nanos, int rounds, long fileSize) {
+        double seconds = nanos / 1e9 / rounds;
+        System.out.printf("%-40s %8.1f ms %8.1f MB/s%n", writePath, seconds * 1e3, fileSize / 1e6 / seconds);
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBooks.getAddressBookWithMatchedPerson;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.testutil.JobBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalCompanies;
+import seedu.address.testutil.TypicalJobs;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.toBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"), BinaryAddressBookStorage.toBinaryFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getAddressBookWithMatchedPerson();
+
+        // save and read
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // modify data, overwrite existing file, and read back
+        original.removePerson(getTypicalPersons().get(0));
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_referencesInDifferentCase_sameNames() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = TypicalCompanies.getTypicalAddressBook();
+        Job job = new JobBuilder(TypicalJobs.SWE).withCompany(TypicalJobs.SWE.getCompany().fullName.toLowerCase())
+                .build();
+        original.addJob(job);
+        original.addPerson(new PersonBuilder(HOON).withMatch(job.getIdentifier()).build());
+
+        storage.saveAddressBook(original);
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, read);
+        assertEquals(job.getCompany(), read.getJobList().get(0).getCompany());
+        assertEquals(job.getIdentifier(), read.getPersonList().get(0).getMatch().get());
+    }
+
+    @Test
+    public void saveAddressBook_sameAsJson_smallerFile() throws Exception {
+        Path binaryPath = testFolder.resolve("ab.bin");
+        Path jsonPath = testFolder.resolve("ab.json");
+        AddressBook original = getAddressBookWithMatchedPerson();
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+        assertEquals(new AddressBook(new JsonAddressBookStorage(jsonPath).readAddressBook().get()),
+                new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path jsonPath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getAddressBookWithMatchedPerson());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(jsonPath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getAddressBookWithMatchedPerson());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookStorage.VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getAddressBookWithMatchedPerson());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void read_invalidName_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithMatchedPerson());
+
+        // replace a name in the string table with one of the same length that is not a valid name
+        String name = getTypicalPersons().get(0).getName().fullName;
+        byte[] bytes = Files.readAllBytes(filePath);
+        String contents = new String(bytes, StandardCharsets.ISO_8859_1);
+        int nameOffset = contents.indexOf(name);
+        bytes[nameOffset] = '@';
+        Files.write(filePath, bytes);
+
+        assertThrows(IllegalValueException.class, () -> BinaryAddressBookStorage.read(filePath));
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBooks.getAddressBookWithMatchedPerson;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.CompanyBuilder;
+import seedu.address.testutil.JobBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalCompanies;
+import seedu.address.testutil.TypicalJobs;
+
+public class CsvAddressBookImporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path csvFile;
+    private Path rejectFile;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        csvFile = testFolder.resolve("import.csv");
+        rejectFile = CsvAddressBookImporter.toRejectFilePath(csvFile);
+        addressBook = getAddressBookWithMatchedPerson();
+    }
+
+    private CsvAddressBookImporter.Result importCsv(CsvAddressBookImporter<?> importer, String... lines)
+            throws Exception {
+        Files.write(csvFile, Arrays.asList(lines));
+        return importer.importInto(addressBook, csvFile, rejectFile);
+    }
+
+    private List<String> readRejects() throws Exception {
+        return Files.readAllLines(rejectFile, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void toRejectFilePath() {
+        assertEquals(Paths.get("data", "contacts.rejected.csv"),
+                CsvAddressBookImporter.toRejectFilePath(Paths.get("data", "contacts.csv")));
+        assertEquals(Paths.get("contacts.rejected.csv"),
+                CsvAddressBookImporter.toRejectFilePath(Paths.get("contacts")));
+    }
+
+    @Test
+    public void importInto_validPersons_allAdded() throws Exception {
+        CsvAddressBookImporter.Result result = importCsv(CsvAddressBookImporter.forPersons(),
+                "Email,NAME,phone,role,skills,match",
+                "amy@example.com,Amy Bee,11111111,Designer,figma; sketch,",
+                "",
+                "\"bob@example.com\",\"Bob Choo\",22222222,Tutor,," + TypicalJobs.TA.getIdentifier());
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(0, result.getRejectedCount());
+        assertTrue(addressBook.getPersonList().contains(new PersonBuilder().withName("Amy Bee").withPhone("11111111")
+                .withEmail("amy@example.com").withRole("Designer").withSkills("figma", "sketch").build()));
+        assertTrue(addressBook.getPersonList().contains(new PersonBuilder().withName("Bob Choo").withPhone("22222222")
+                .withEmail("bob@example.com").withRole("Tutor").withMatch(TypicalJobs.TA.getIdentifier()).build()));
+        assertFalse(Files.exists(rejectFile));
+    }
+
+    @Test
+    public void importInto_invalidPersons_rejectedWithReasons() throws Exception {
+        int personCount = addressBook.getPersonList().size();
+        CsvAddressBookImporter.Result result = importCsv(CsvAddressBookImporter.forPersons(),
+                "name,phone,email,role",
+                "Amy Bee,11111111,amy@example.com,Designer",
+                "Amy Twin,33333333,amy@example.com,Designer",
+                "Alice Again,44444444," + ALICE.getEmail() + ",Teacher",
+                "Bad Phone,12,bad@example.com,Tutor",
+                "Too Few,55555555",
+                "Bob Choo,22222222,bob@example.com,Tutor");
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(4, result.getRejectedCount());
+        assertEquals(personCount + 2, addressBook.getPersonList().size());
+        assertEquals(Arrays.asList("error,name,phone,email,role",
+                "Line 3: " + CsvAddressBookImporter.MESSAGE_DUPLICATE_CONTACT
+                        + ",Amy Twin,33333333,amy@example.com,Designer",
+                "Line 4: " + CsvAddressBookImporter.MESSAGE_DUPLICATE_CONTACT
+                        + ",Alice Again,44444444," + ALICE.getEmail() + ",Teacher",
+                // the error has a comma, so it is quoted
+                "\"Line 5: " + Phone.MESSAGE_CONSTRAINTS + "\",Bad Phone,12,bad@example.com,Tutor",
+                "Line 6: " + String.format(CsvAddressBookImporter.MESSAGE_WRONG_FIELD_COUNT, 4, 2)
+                        + ",Too Few,55555555"), readRejects());
+    }
+
+    @Test
+    public void importInto_correctedRejectFile_imported() throws Exception {
+        importCsv(CsvAddressBookImporter.forPersons(), "name,phone,email,role,match",
+                "Amy Bee,11111111,amy@example.com,Designer,Acme::Cleaner");
+        assertEquals(String.format("Line 2: " + CsvAddressBookImporter.MESSAGE_UNKNOWN_JOB, "Acme::Cleaner"),
+                readRejects().get(1).split(",")[0]);
+
+        // the error column is ignored, and replaced if the row is rejected again
+        Path correctedFile = testFolder.resolve("corrected.csv");
+        List<String> corrected = new ArrayList<>(readRejects());
+        corrected.set(1, corrected.get(1).replace("Acme::Cleaner", TypicalJobs.TA.getIdentifier()));
+        corrected.add("old error,Bob Choo,12,bob@example.com,Tutor,");
+        Files.write(correctedFile, corrected);
+        Path correctedRejectFile = CsvAddressBookImporter.toRejectFilePath(correctedFile);
+        CsvAddressBookImporter.Result result = CsvAddressBookImporter.forPersons()
+                .importInto(addressBook, correctedFile, correctedRejectFile);
+
+        assertEquals(1, result.getImportedCount());
+        assertEquals(Arrays.asList("error,name,phone,email,role,match",
+                "\"Line 3: " + Phone.MESSAGE_CONSTRAINTS + "\",Bob Choo,12,bob@example.com,Tutor,"),
+                Files.readAllLines(correctedRejectFile));
+    }
+
+    @Test
+    public void importInto_jobs_companiesResolved() throws Exception {
+        String nus = TypicalJobs.TA.getCompany().fullName;
+        CsvAddressBookImporter.Result result = importCsv(CsvAddressBookImporter.forJobs(),
+                "name,company,salary,description,requirements",
+                "Lab Assistant," + nus.toLowerCase() + ",1500,Runs the labs,Java; Python",
+                "Lab Assistant," + nus + ",1600,Runs the labs again,",
+                "Cleaner,No Such Company,1000,Cleans,");
+
+        assertEquals(1, result.getImportedCount());
+        assertTrue(addressBook.getJobList().contains(new JobBuilder().withName("Lab Assistant")
+                .withCompany(nus.toLowerCase()).withSalary("1500").withDescription("Runs the labs")
+                .withRequirements("Java", "Python").build()));
+        List<String> rejects = readRejects();
+        assertTrue(rejects.get(1).startsWith("Line 3: " + CsvAddressBookImporter.MESSAGE_DUPLICATE_JOB + ","));
+        assertTrue(rejects.get(2).startsWith("Line 4: "
+                + String.format(CsvAddressBookImporter.MESSAGE_UNKNOWN_COMPANY, "No Such Company") + ","));
+    }
+
+    @Test
+    public void importInto_companies_duplicatesRejected() throws Exception {
+        CsvAddressBookImporter.Result result = importCsv(CsvAddressBookImporter.forCompanies(),
+                "name,address,billing date,phone",
+                "Acme,\"1 Road, Singapore\",5,61234567",
+                TypicalCompanies.GOOGLE.getName().fullName.toUpperCase() + ",2 Road,5,61234567");
+
+        assertEquals(1, result.getImportedCount());
+        assertEquals(1, result.getRejectedCount());
+        assertTrue(addressBook.getCompanyList().contains(new CompanyBuilder().withName("Acme")
+                .withAddress("1 Road, Singapore").withBillingDate("5").withPhone("61234567").build()));
+    }
+
+    @Test
+    public void importInto_manyChunks_addedInOrder() throws Exception {
+        int rowCount = CsvAddressBookImporter.CHUNK_SIZE * 2 + 10;
+        List<String> lines = new ArrayList<>();
+        lines.add("name,phone,email,role");
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("Person " + i + "," + (10_000_000 + i) + ",person" + i + "@example.com,Tester");
+        }
+        // the duplicate of a row in an earlier chunk is rejected
+        lines.add("Person Again,10000000,again@example.com,Tester");
+        int personCount = addressBook.getPersonList().size();
+
+        CsvAddressBookImporter.Result result = importCsv(CsvAddressBookImporter.forPersons(),
+                lines.toArray(new String[0]));
+
+        assertEquals(rowCount, result.getImportedCount());
+        assertEquals(1, result.getRejectedCount());
+        for (int i = 0; i < rowCount; i++) {
+            assertEquals("Person " + i, addressBook.getPersonList().get(personCount + i).getName().fullName);
+        }
+    }
+
+    @Test
+    public void importInto_staleRejectFile_deleted() throws Exception {
+        Files.write(rejectFile, List.of("error,name"));
+        importCsv(CsvAddressBookImporter.forPersons(), "name,phone,email,role");
+        assertFalse(Files.exists(rejectFile));
+    }
+
+    @Test
+    public void importInto_invalidHeader_throwsIllegalValueException() throws Exception {
+        String validColumns = "name, phone, email, role, skills, match";
+        assertThrows(IllegalValueException.class, CsvAddressBookImporter.MESSAGE_EMPTY_FILE, () ->
+                importCsv(CsvAddressBookImporter.forPersons()));
+        assertThrows(IllegalValueException.class, String.format(CsvAddressBookImporter.MESSAGE_UNKNOWN_COLUMN,
+                "mail", validColumns), () -> importCsv(CsvAddressBookImporter.forPersons(), "name,phone,mail,role"));
+        assertThrows(IllegalValueException.class, String.format(CsvAddressBookImporter.MESSAGE_DUPLICATE_COLUMN,
+                "Phone"), () -> importCsv(CsvAddressBookImporter.forPersons(), "name,phone,email,role,Phone"));
+        assertThrows(IllegalValueException.class, String.format(CsvAddressBookImporter.MESSAGE_MISSING_COLUMN,
+                "role"), () -> importCsv(CsvAddressBookImporter.forPersons(), "name,phone,email"));
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    // Large enough that the journal is never compacted unless a test asks for it.
+    private static final long NO_COMPACTION_BYTES = Long.MAX_VALUE;
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledAddressBookStorage createStorage(Path filePath, long minCompactionBytes) {
+        return new JournaledAddressBookStorage(filePath, true, minCompactionBytes, 1);
+    }
+
+    private AddressBook readWithNewStorage(Path filePath) throws DataLoadingException {
+        return new AddressBook(createStorage(filePath, NO_COMPACTION_BYTES).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("missing.json"), NO_COMPACTION_BYTES).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesPlainDataFile() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(filePath, NO_COMPACTION_BYTES).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, NO_COMPACTION_BYTES);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        // add, remove and edit -> data file unchanged, journal grows
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(HOON, new PersonBuilder(HOON).withRole("Barista").build());
+        storage.saveAddressBook(addressBook);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.size(storage.getJournalFilePath()) > journalSize);
+
+        // no changes -> journal unchanged
+        journalSize = Files.size(storage.getJournalFilePath());
+        storage.saveAddressBook(addressBook);
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+
+        storage.flushAddressBook();
+        assertEquals(addressBook, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage(filePath, NO_COMPACTION_BYTES);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage newStorage = createStorage(filePath, NO_COMPACTION_BYTES);
+        AddressBook readBack = new AddressBook(newStorage.readAddressBook().get());
+        readBack.addPerson(IDA);
+        newStorage.saveAddressBook(readBack);
+
+        addressBook.addPerson(IDA);
+        assertEquals(addressBook, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_journalLargerThanThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long emptyJournalSize = Files.size(storage.getJournalFilePath());
+
+        // journal is never larger than the whole data file, so keep saving until it is compacted
+        for (int i = 0; i < 100 && !addressBook.equals(readPlainDataFile(filePath)); i++) {
+            addressBook.removePerson(ALICE);
+            storage.saveAddressBook(addressBook);
+            addressBook.addPerson(ALICE);
+            storage.saveAddressBook(addressBook);
+            storage.flushAddressBook();
+        }
+
+        assertEquals(addressBook, readPlainDataFile(filePath));
+        assertEquals(emptyJournalSize, Files.size(storage.getJournalFilePath()));
+        assertEquals(addressBook, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, NO_COMPACTION_BYTES);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // drop the newline and part of the last record, as if the save had been interrupted
+        Path journalPath = storage.getJournalFilePath();
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 10));
+
+        assertEquals(expected, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, NO_COMPACTION_BYTES);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(storage.getJournalFilePath(), "{\"persons\":{\"index\":100,\"removed\":1,\"added\":[]}}\n",
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> createStorage(filePath, NO_COMPACTION_BYTES)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_dataFileReplaced_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, NO_COMPACTION_BYTES);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // data file edited by hand
+        AddressBook editedByHand = getTypicalAddressBook();
+        editedByHand.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(editedByHand);
+
+        assertEquals(editedByHand, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writesPlainDataFile() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = createStorage(testFolder.resolve("ab.json"), NO_COMPACTION_BYTES);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherPath);
+
+        assertEquals(original, readPlainDataFile(otherPath));
+        assertFalse(Files.exists(testFolder.resolve("other.json" + JournaledAddressBookStorage.JOURNAL_FILE_SUFFIX)));
+    }
+
+    private static AddressBook readPlainDataFile(Path filePath) throws DataLoadingException {
+        return new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,8 +10,11 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -86,6 +90,34 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path compressedPath = testFolder.resolve("compressed.json");
+        Path plainPath = testFolder.resolve("plain.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(compressedPath, true, true).saveAddressBook(original);
+        new JsonAddressBookStorage(plainPath, true, false).saveAddressBook(original);
+
+        byte[] compressed = Files.readAllBytes(compressedPath);
+        assertEquals(GZIPInputStream.GZIP_MAGIC, (compressed[0] & 0xff) | (compressed[1] & 0xff) << 8);
+        assertTrue(compressed.length < Files.size(plainPath));
+
+        // format is detected on read, whichever format the storage saves in
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedPath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(plainPath, true, true).readAddressBook()
+                .get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedCompressedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("compressed.json");
+        new JsonAddressBookStorage(filePath, true, true).saveAddressBook(getTypicalAddressBook());
+        byte[] compressed = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(compressed, compressed.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.common.Name;
+import seedu.address.model.person.Email;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStreamReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE =
+            SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE =
+            SERIALIZABLE_TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE =
+            SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NON_ARRAY_PERSONS_FILE = TEST_DATA_FOLDER.resolve("nonArrayPersonsAddressBook.json");
+    private static final Path ROOT_ARRAY_FILE = TEST_DATA_FOLDER.resolve("rootArrayAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookStreamReader.read(TYPICAL_PERSONS_FILE);
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_typicalPersonsFile_sameAsJsonSerializableAddressBook() throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        assertEquals(expected, JsonAddressBookStreamReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookStreamReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookStreamReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_personsNotAnArray_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookStreamReader.read(NON_ARRAY_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_rootNotAnObject_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookStreamReader.read(ROOT_ARRAY_FILE));
+    }
+
+    @Test
+    public void read_manyInvalidRecords_firstInFileReported() throws Exception {
+        int personCount = ParallelRecordConverter.CHUNK_SIZE * 8;
+        StringBuilder json = new StringBuilder("{\"persons\":[");
+        for (int i = 0; i < personCount; i++) {
+            // an invalid email early on, and invalid names in every chunk after it
+            String name = i > personCount / 4 && i % 100 == 0 ? "!" : "Person " + i;
+            String email = i == personCount / 4 ? "invalid" : "p" + i + "@example.com";
+            json.append(i == 0 ? "" : ",").append(String.format(
+                    "{\"name\":\"%s\",\"phone\":\"%d\",\"email\":\"%s\",\"role\":\"Clerk\",\"skills\":[]}",
+                    name, 10000000 + i, email));
+        }
+        json.append("],\"jobs\":[],\"companies\":[{\"name\":\"!\"}]}");
+        Path filePath = testFolder.resolve("invalidRecords.json");
+        Files.writeString(filePath, json);
+
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                JsonAddressBookStreamReader.read(filePath));
+
+        // persons come after the companies in this file
+        Files.writeString(filePath, json.toString().replace("{\"persons\"", "{\"companies\":[{\"name\":\"!\"}],"
+                + "\"persons\""));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                JsonAddressBookStreamReader.read(filePath));
+    }
+
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalCompanies.GOOGLE;
+import static seedu.address.testutil.TypicalCompanies.NUS;
+import static seedu.address.testutil.TypicalJobs.SWE;
+import static seedu.address.testutil.TypicalJobs.TA;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookStreamWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getAddressBookWithAllEntities() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addCompany(NUS);
+        addressBook.addCompany(GOOGLE);
+        addressBook.addJob(TA);
+        addressBook.addJob(SWE);
+        addressBook.addPerson(new PersonBuilder(ALICE).withMatch(TA.getIdentifier()).build());
+        addressBook.addPerson(BENSON);
+        return addressBook;
+    }
+
+    @Test
+    public void write_prettyPrinted_sameAsJsonSerializableAddressBook() throws Exception {
+        AddressBook addressBook = getAddressBookWithAllEntities();
+        Path filePath = testFolder.resolve("pretty.json");
+
+        JsonAddressBookStreamWriter.write(addressBook, filePath, true);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertEquals(expected, FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void write_compact_readBackSuccessfully() throws Exception {
+        AddressBook addressBook = getAddressBookWithAllEntities();
+        Path filePath = testFolder.resolve("compact.json");
+
+        JsonAddressBookStreamWriter.write(addressBook, filePath, false);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(addressBook, JsonAddressBookStreamReader.read(filePath));
+    }
+
+    @Test
+    public void write_existingLongerFile_truncated() throws Exception {
+        Path filePath = testFolder.resolve("overwrite.json");
+        JsonAddressBookStreamWriter.write(getAddressBookWithAllEntities(), filePath, true);
+
+        JsonAddressBookStreamWriter.write(new AddressBook(), filePath, false);
+
+        assertEquals(new AddressBook(), JsonAddressBookStreamReader.read(filePath));
+    }
+
+}
@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalAddressBooks.getAddressBookWithMatchedPerson;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonFragmentCacheTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private int encodeCount;
+
+    @Test
+    public void write_prettyPrinted_sameAsWithoutCache() throws Exception {
+        assertSameAsWithoutCache(true);
+    }
+
+    @Test
+    public void write_compact_sameAsWithoutCache() throws Exception {
+        assertSameAsWithoutCache(false);
+    }
+
+    private void assertSameAsWithoutCache(boolean isPrettyPrinted) throws Exception {
+        JsonFragmentCache fragmentCache = new JsonFragmentCache(isPrettyPrinted);
+        AddressBook addressBook = getAddressBookWithMatchedPerson();
+        Path cachedPath = testFolder.resolve("cached.json");
+        Path plainPath = testFolder.resolve("plain.json");
+
+        Person alice = ALICE;
+        for (int i = 0; i < 3; i++) {
+            JsonAddressBookStreamWriter.write(addressBook, cachedPath, isPrettyPrinted, false, fragmentCache);
+            JsonAddressBookStreamWriter.write(addressBook, plainPath, isPrettyPrinted);
+            assertArrayEquals(Files.readAllBytes(plainPath), Files.readAllBytes(cachedPath));
+            assertEquals(addressBook, JsonAddressBookStreamReader.read(cachedPath));
+
+            // all records but one unchanged
+            Person editedAlice = new PersonBuilder(alice).withRole("Role " + i).build();
+            addressBook.setPerson(alice, editedAlice);
+            alice = editedAlice;
+        }
+    }
+
+    @Test
+    public void cached_unchangedRecords_notEncodedAgain() throws Exception {
+        JsonFragmentCache fragmentCache = new JsonFragmentCache(true);
+        List<Person> persons = getTypicalPersons();
+
+        writePersons(fragmentCache, persons);
+        assertEquals(persons.size(), encodeCount);
+
+        encodeCount = 0;
+        persons.set(2, new PersonBuilder(persons.get(2)).withRole("Barista").build());
+        writePersons(fragmentCache, persons);
+        assertEquals(1, encodeCount);
+    }
+
+    @Test
+    public void retainWritten_removedRecords_dropped() throws Exception {
+        JsonFragmentCache fragmentCache = new JsonFragmentCache(true);
+        List<Person> persons = getTypicalPersons();
+        writePersons(fragmentCache, persons);
+
+        persons.remove(0);
+        writePersons(fragmentCache, persons);
+        assertEquals(persons.size(), fragmentCache.size());
+    }
+
+    @Test
+    public void discardWritten_failedSave_previousSaveKept() throws Exception {
+        JsonFragmentCache fragmentCache = new JsonFragmentCache(true);
+        List<Person> persons = getTypicalPersons();
+        writePersons(fragmentCache, persons);
+
+        JsonAddressBookStreamWriter.RecordWriter<Person> personWriter = countingPersonWriter(fragmentCache);
+        personWriter.write(HOON, JsonUtil.createGenerator(new ByteArrayOutputStream(), true));
+        fragmentCache.discardWritten();
+
+        encodeCount = 0;
+        writePersons(fragmentCache, persons);
+        assertEquals(0, encodeCount);
+    }
+
+    private JsonAddressBookStreamWriter.RecordWriter<Person> countingPersonWriter(JsonFragmentCache fragmentCache) {
+        return fragmentCache.cached((person, generator) -> {
+            encodeCount++;
+            JsonAddressBookStreamWriter.writePerson(person, generator);
+        });
+    }
+
+    /**
+     * Writes {@code persons} as a list in a JSON object through {@code fragmentCache}, as a save would.
+     */
+    private void writePersons(JsonFragmentCache fragmentCache, List<Person> persons) throws Exception {
+        JsonAddressBookStreamWriter.RecordWriter<Person> personWriter = countingPersonWriter(fragmentCache);
+        try (JsonGenerator generator = JsonUtil.createGenerator(new ByteArrayOutputStream(), true)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                personWriter.write(person, generator);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        fragmentCache.retainWritten();
+    }
+}
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.company.exceptions.CompanyNotFoundException;
+import seedu.address.model.job.exceptions.JobNotFoundException;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +21,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_JOB_FILE = TEST_DATA_FOLDER.resolve("duplicateJobAddressBook.json");
+    private static final Path MISSING_COMPANY_FILE = TEST_DATA_FOLDER.resolve("missingCompanyAddressBook.json");
+    private static final Path MISSING_JOB_FILE = TEST_DATA_FOLDER.resolve("missingJobAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +49,26 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateJobs_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_JOB_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_JOB,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_jobWithMissingCompany_throwsCompanyNotFoundException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(MISSING_COMPANY_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(CompanyNotFoundException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_personMatchedToMissingJob_throwsJobNotFoundException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(MISSING_JOB_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(JobNotFoundException.class, dataFromFile::toModelType);
+    }
+
 }
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int MANY_RECORDS = ParallelRecordConverter.CHUNK_SIZE * 10 + 7;
+
+    /**
+     * Converts a record into its number, failing with the record as the message if it is not a number.
+     */
+    private static Integer toNumber(String record) throws IllegalValueException {
+        try {
+            return Integer.valueOf(record);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(record);
+        }
+    }
+
+    private static List<String> numbers(int count) {
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(String.valueOf(i));
+        }
+        return records;
+    }
+
+    @Test
+    public void convertAll_noRecords_emptyList() throws Exception {
+        assertTrue(ParallelRecordConverter.convertAll(new ArrayList<String>(),
+                ParallelRecordConverterTest::toNumber).isEmpty());
+    }
+
+    @Test
+    public void convertAll_manyRecords_convertedInOrder() throws Exception {
+        List<Integer> converted = ParallelRecordConverter.convertAll(numbers(MANY_RECORDS),
+                ParallelRecordConverterTest::toNumber);
+        assertEquals(MANY_RECORDS, converted.size());
+        for (int i = 0; i < MANY_RECORDS; i++) {
+            assertEquals(i, converted.get(i));
+        }
+    }
+
+    @Test
+    public void convertAll_severalInvalidRecords_firstFailureReported() {
+        List<String> records = numbers(MANY_RECORDS);
+        records.set(MANY_RECORDS - 1, "last");
+        records.set(ParallelRecordConverter.CHUNK_SIZE * 3 + 1, "first");
+        records.set(ParallelRecordConverter.CHUNK_SIZE * 3 + 2, "second");
+        records.set(ParallelRecordConverter.CHUNK_SIZE * 7, "third");
+
+        // the later invalid records are converted first on a pool with many threads, the result must not change
+        for (int i = 0; i < 20; i++) {
+            assertThrows(IllegalValueException.class, "first", () -> ParallelRecordConverter.convertAll(records,
+                    ParallelRecordConverterTest::toNumber));
+        }
+    }
+
+    @Test
+    public void finish_runtimeExceptionAfterInvalidRecord_invalidRecordReported() {
+        ParallelRecordConverter<String, Integer> converter = new ParallelRecordConverter<>(record -> {
+            if (record.isEmpty()) {
+                throw new IllegalStateException();
+            }
+            return toNumber(record);
+        }, new ForkJoinPool(4));
+        List<String> records = numbers(MANY_RECORDS);
+        records.set(1, "invalid");
+        records.set(MANY_RECORDS - 1, "");
+        records.forEach(converter::add);
+
+        assertThrows(IllegalValueException.class, "invalid", converter::finish);
+    }
+
+    @Test
+    public void finish_runtimeExceptionFirst_runtimeExceptionThrown() {
+        ParallelRecordConverter<String, Integer> converter = new ParallelRecordConverter<>(record -> {
+            if (record.isEmpty()) {
+                throw new IllegalStateException();
+            }
+            return toNumber(record);
+        });
+        List<String> records = numbers(MANY_RECORDS);
+        records.set(ParallelRecordConverter.CHUNK_SIZE, "");
+        records.set(MANY_RECORDS - 1, "invalid");
+        records.forEach(converter::add);
+
+        assertThrows(IllegalStateException.class, converter::finish);
+    }
+}
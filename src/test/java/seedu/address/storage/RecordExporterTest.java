@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalAddressBooks.getAddressBookWithJobs;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.company.Company;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.CompanyBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalJobs;
+
+public class RecordExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void export_csv_importedBackSame() throws Exception {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder(HOON).withSkills("cpp", "java").withMatch(TypicalJobs.TA.getIdentifier())
+                .build());
+        Path file = testFolder.resolve("contacts.csv");
+
+        RecordExporter.Result result = RecordExporter.forPersons().export(persons, file, RecordExporter.Format.CSV);
+
+        assertEquals(persons.size(), result.getRecordCount());
+        assertEquals(Files.size(file), result.getByteCount());
+        AddressBook addressBook = getAddressBookWithJobs();
+        Path rejectFile = CsvAddressBookImporter.toRejectFilePath(file);
+        CsvAddressBookImporter.forPersons().importInto(addressBook, file, rejectFile);
+        assertEquals(persons, addressBook.getPersonList());
+        assertFalse(Files.exists(rejectFile));
+    }
+
+    @Test
+    public void export_companiesWithSeparators_importedBackSame() throws Exception {
+        List<Company> companies = List.of(new CompanyBuilder().withName("Acme")
+                .withAddress("1 Road, \"Block\" 2").withBillingDate("5").withPhone("61234567").build());
+        Path file = testFolder.resolve("companies.csv");
+
+        RecordExporter.forCompanies().export(companies, file, RecordExporter.Format.CSV);
+
+        AddressBook addressBook = new AddressBook();
+        CsvAddressBookImporter.forCompanies().importInto(addressBook, file,
+                CsvAddressBookImporter.toRejectFilePath(file));
+        assertEquals(companies, addressBook.getCompanyList());
+    }
+
+    @Test
+    public void export_jsonLines_oneRecordPerLine() throws Exception {
+        List<Job> jobs = TypicalJobs.getTypicalJobs();
+        Path file = testFolder.resolve("jobs.jsonl");
+
+        RecordExporter.Result result = RecordExporter.forJobs().export(jobs, file, RecordExporter.Format.JSON_LINES);
+
+        assertEquals(jobs.size(), result.getRecordCount());
+        assertEquals(Files.size(file), result.getByteCount());
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(jobs.size(), lines.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            assertEquals(jobs.get(i), JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJob.class).toModelType());
+        }
+    }
+
+    @Test
+    public void export_nothing_headerOnly() throws Exception {
+        Path file = testFolder.resolve("jobs.csv");
+        RecordExporter.Result result = RecordExporter.forJobs().export(List.of(), file, RecordExporter.Format.CSV);
+        assertEquals(0, result.getRecordCount());
+        assertEquals(List.of(String.join(",", CsvAddressBookImporter.JOB_COLUMNS)), Files.readAllLines(file));
+    }
+
+    @Test
+    public void formatOf() {
+        assertEquals(Optional.of(RecordExporter.Format.CSV), RecordExporter.Format.of(Paths.get("data", "a.CSV")));
+        assertEquals(Optional.of(RecordExporter.Format.JSON_LINES), RecordExporter.Format.of(Paths.get("a.jsonl")));
+        assertEquals(Optional.empty(), RecordExporter.Format.of(Paths.get("a.json")));
+    }
+}
@@ -0,0 +1,217 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBooks.getAddressBookWithMatchedPerson;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalJobs;
+
+public class ShardedAddressBookStorageTest {
+
+    // Written over a file to tell whether a save rewrote it.
+    private static final byte[] MARKER = "not rewritten".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    private static AddressBook readWithNewStorage(Path directoryPath) throws DataLoadingException {
+        return new AddressBook(new ShardedAddressBookStorage(directoryPath).readAddressBook().get());
+    }
+
+    /**
+     * Returns the path of the file in {@code directoryPath} that {@code shardName} is currently written to.
+     */
+    private static Path resolveFile(Path directoryPath, String shardName) throws Exception {
+        return ShardedAddressBookStorage.resolveFiles(directoryPath).get(shardName);
+    }
+
+    @Test
+    public void constructor_noPersonFiles_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(testFolder, true, 0));
+    }
+
+    @Test
+    public void toShardDirectoryPath() {
+        assertEquals(Paths.get("data", "addressbook.shards"),
+                ShardedAddressBookStorage.toShardDirectoryPath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.shards"),
+                ShardedAddressBookStorage.toShardDirectoryPath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_noManifest_emptyResult() throws Exception {
+        Path directoryPath = Files.createDirectories(testFolder.resolve("ab.shards"));
+        Files.writeString(directoryPath.resolve("companies.1.json"), "{\"companies\": []}");
+        assertFalse(new ShardedAddressBookStorage(directoryPath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_onePersonFile_success() throws Exception {
+        Path directoryPath = testFolder.resolve("ab.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        AddressBook original = getAddressBookWithMatchedPerson();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, readWithNewStorage(directoryPath));
+        assertFalse(ShardedAddressBookStorage.resolveFiles(directoryPath)
+                .containsKey(ShardedAddressBookStorage.PERSON_ORDER_FILE));
+
+        original.removePerson(getTypicalPersons().get(0));
+        storage.saveAddressBook(original);
+        assertEquals(original, readWithNewStorage(directoryPath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_manyPersonFiles_personOrderKept() throws Exception {
+        Path directoryPath = testFolder.resolve("ab.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, false, 3);
+        AddressBook original = getAddressBookWithMatchedPerson();
+
+        storage.saveAddressBook(original);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(Files.exists(resolveFile(directoryPath,
+                    String.format(ShardedAddressBookStorage.PERSONS_FILE_FORMAT, i))));
+        }
+        assertEquals(original, readWithNewStorage(directoryPath));
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_onlyChangedFilesRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("ab.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, false, 4);
+        AddressBook addressBook = getAddressBookWithMatchedPerson();
+        storage.saveAddressBook(addressBook);
+
+        Person editedAlice = new PersonBuilder(ALICE).withRole("Barista").build();
+        String aliceShard = findPersonShard(directoryPath, ALICE);
+        String[] markedShards = {ShardedAddressBookStorage.COMPANIES_FILE, ShardedAddressBookStorage.JOBS_FILE,
+            ShardedAddressBookStorage.PERSON_ORDER_FILE, aliceShard};
+        for (String shardName : markedShards) {
+            Files.write(resolveFile(directoryPath, shardName), MARKER);
+        }
+
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+        assertArrayEquals(MARKER, Files.readAllBytes(resolveFile(directoryPath,
+                ShardedAddressBookStorage.COMPANIES_FILE)));
+        assertArrayEquals(MARKER, Files.readAllBytes(resolveFile(directoryPath, ShardedAddressBookStorage.JOBS_FILE)));
+        assertArrayEquals(MARKER, Files.readAllBytes(resolveFile(directoryPath,
+                ShardedAddressBookStorage.PERSON_ORDER_FILE)));
+        assertFalse(new String(Files.readAllBytes(resolveFile(directoryPath, aliceShard)), StandardCharsets.UTF_8)
+                .contains(new String(MARKER, StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_markedFilesNotRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("ab.shards");
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(getAddressBookWithMatchedPerson());
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Path companiesPath = resolveFile(directoryPath, ShardedAddressBookStorage.COMPANIES_FILE);
+        Files.write(companiesPath, MARKER);
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertArrayEquals(MARKER, Files.readAllBytes(companiesPath));
+    }
+
+    @Test
+    public void saveAddressBook_fewerPersonFiles_leftOverFilesDeleted() throws Exception {
+        Path directoryPath = testFolder.resolve("ab.shards");
+        AddressBook original = getAddressBookWithMatchedPerson();
+        new ShardedAddressBookStorage(directoryPath, true, 4).saveAddressBook(original);
+        Path leftOverPersonFile = resolveFile(directoryPath,
+                String.format(ShardedAddressBookStorage.PERSONS_FILE_FORMAT, 1));
+        Path leftOverPersonOrderFile = resolveFile(directoryPath, ShardedAddressBookStorage.PERSON_ORDER_FILE);
+
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(original);
+        assertFalse(Files.exists(leftOverPersonFile));
+        assertFalse(Files.exists(leftOverPersonOrderFile));
+        assertEquals(original, readWithNewStorage(directoryPath));
+    }
+
+    @Test
+    public void saveAddressBook_interruptedSave_previousAddressBookKept() throws Exception {
+        Path directoryPath = testFolder.resolve("ab.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, true, 2);
+        AddressBook original = getAddressBookWithMatchedPerson();
+        storage.saveAddressBook(original);
+
+        // the second save writes the jobs file, then fails on the changed person file
+        Path[] blockedFiles = {directoryPath.resolve("persons-0.2.json"), directoryPath.resolve("persons-1.2.json")};
+        for (Path blockedFile : blockedFiles) {
+            Files.createDirectories(blockedFile.resolve("blocked"));
+        }
+        AddressBook edited = new AddressBook(original);
+        edited.removeJob(TypicalJobs.BARISTA);
+        edited.removePerson(ALICE);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(edited));
+        assertTrue(Files.exists(directoryPath.resolve("jobs.2.json")));
+        assertEquals(original, readWithNewStorage(directoryPath));
+
+        // the next save completes, and removes the files of the interrupted save
+        for (Path blockedFile : blockedFiles) {
+            Files.delete(blockedFile.resolve("blocked"));
+            Files.delete(blockedFile);
+        }
+        storage.saveAddressBook(edited);
+        assertEquals(edited, readWithNewStorage(directoryPath));
+        assertFalse(Files.exists(directoryPath.resolve("jobs.1.json")));
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsDataLoadingException() throws Exception {
+        Path directoryPath = testFolder.resolve("ab.shards");
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(getAddressBookWithMatchedPerson());
+        Files.writeString(resolveFile(directoryPath, String.format(ShardedAddressBookStorage.PERSONS_FILE_FORMAT, 0)),
+                "{\"persons\": [{\"name\": \"Hans Muster\", \"phone\": \"9482424\", \"email\": \"invalid@email!3e\","
+                + " \"role\": \"Banker\"}]}");
+
+        assertThrows(DataLoadingException.class, () -> readWithNewStorage(directoryPath));
+    }
+
+    @Test
+    public void readAddressBook_jobWithoutCompany_throwsDataLoadingException() throws Exception {
+        Path directoryPath = testFolder.resolve("ab.shards");
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(getAddressBookWithMatchedPerson());
+        Files.delete(resolveFile(directoryPath, ShardedAddressBookStorage.COMPANIES_FILE));
+
+        assertThrows(DataLoadingException.class, () -> readWithNewStorage(directoryPath));
+    }
+
+    /**
+     * Returns the name of the person file in {@code directoryPath} that holds {@code person}.
+     */
+    private static String findPersonShard(Path directoryPath, Person person) throws Exception {
+        for (int i = 0; ; i++) {
+            String shardName = String.format(ShardedAddressBookStorage.PERSONS_FILE_FORMAT, i);
+            if (Files.readString(resolveFile(directoryPath, shardName)).contains(person.getEmail().value)) {
+                return shardName;
+            }
+        }
+    }
+}
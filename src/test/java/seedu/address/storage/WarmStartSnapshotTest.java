@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalAddressBooks.getAddressBookWithMatchedPerson;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.common.Name;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.JobBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalJobs;
+
+public class WarmStartSnapshotTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFilePath;
+    private WarmStartSnapshot snapshot;
+
+    @BeforeEach
+    public void setUp() {
+        dataFilePath = testFolder.resolve("addressbook.json");
+        snapshot = new WarmStartSnapshot(WarmStartSnapshot.toSnapshotFilePath(dataFilePath));
+    }
+
+    @Test
+    public void toSnapshotFilePath() {
+        assertEquals(Paths.get("data", "addressbook.snapshot"),
+                WarmStartSnapshot.toSnapshotFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.snapshot"),
+                WarmStartSnapshot.toSnapshotFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void read_missingSnapshot_emptyResult() throws Exception {
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(getAddressBookWithMatchedPerson());
+        assertFalse(snapshot.read(dataFilePath).isPresent());
+    }
+
+    @Test
+    public void read_dataFileUnchanged_success() throws Exception {
+        AddressBook original = getAddressBookWithMatchedPerson();
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(original);
+        snapshot.write(original, dataFilePath);
+
+        assertEquals(original, new AddressBook(snapshot.read(dataFilePath).get()));
+    }
+
+    @Test
+    public void read_dataFileUnchanged_sameAsJsonData() throws Exception {
+        AddressBook original = getAddressBookWithMatchedPerson();
+        Job job = new JobBuilder(TypicalJobs.SWE).withName("Site Reliability Engineer")
+                .withCompany(TypicalJobs.SWE.getCompany().fullName.toLowerCase()).build();
+        original.addJob(job);
+        original.addPerson(new PersonBuilder().withName("Ida Snapshot").withMatch(job.getIdentifier()).build());
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(dataFilePath);
+        storage.saveAddressBook(original);
+        snapshot.write(original, dataFilePath);
+
+        AddressBook fromJson = new AddressBook(storage.readAddressBook().get());
+        AddressBook fromSnapshot = new AddressBook(snapshot.read(dataFilePath).get());
+        assertEquals(original, fromJson);
+        assertEquals(fromJson, fromSnapshot);
+    }
+
+    @Test
+    public void read_dataFileChanged_emptyResult() throws Exception {
+        AddressBook original = getAddressBookWithMatchedPerson();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(dataFilePath);
+        storage.saveAddressBook(original);
+        snapshot.write(original, dataFilePath);
+
+        // data file saved again with other data
+        original.removePerson(getTypicalPersons().get(0));
+        storage.saveAddressBook(original);
+        assertFalse(snapshot.read(dataFilePath).isPresent());
+
+        // data file edited by hand without changing its length
+        snapshot.write(original, dataFilePath);
+        byte[] bytes = Files.readAllBytes(dataFilePath);
+        String contents = new String(bytes, StandardCharsets.UTF_8);
+        int digitIndex = contents.indexOf(original.getPersonList().get(0).getPhone().value);
+        bytes[digitIndex] = (byte) (bytes[digitIndex] == '9' ? '8' : '9');
+        Files.write(dataFilePath, bytes);
+        assertFalse(snapshot.read(dataFilePath).isPresent());
+
+        // data file deleted
+        Files.delete(dataFilePath);
+        assertFalse(snapshot.read(dataFilePath).isPresent());
+    }
+
+    @Test
+    public void read_corruptSnapshot_emptyResult() throws Exception {
+        AddressBook original = getAddressBookWithMatchedPerson();
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(original);
+        snapshot.write(original, dataFilePath);
+        byte[] bytes = Files.readAllBytes(snapshot.getSnapshotFilePath());
+
+        // truncated
+        Files.write(snapshot.getSnapshotFilePath(), Arrays.copyOf(bytes, bytes.length - 10));
+        assertFalse(snapshot.read(dataFilePath).isPresent());
+
+        // shorter than its header
+        Files.write(snapshot.getSnapshotFilePath(), Arrays.copyOf(bytes, 10));
+        assertFalse(snapshot.read(dataFilePath).isPresent());
+
+        // not a snapshot
+        Files.copy(dataFilePath, snapshot.getSnapshotFilePath(), StandardCopyOption.REPLACE_EXISTING);
+        assertFalse(snapshot.read(dataFilePath).isPresent());
+    }
+
+    @Test
+    public void read_matchingSnapshot_recordsNotValidatedAgain() throws Exception {
+        // a record that could only have been built without validation is read back as it was written
+        AddressBook original = getAddressBookWithMatchedPerson();
+        Person person = getTypicalPersons().get(0);
+        original.setPerson(person, new Person(Name.ofValidated("@" + person.getName()), person.getPhone(),
+                person.getEmail(), person.getRole(), person.getSkills()));
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(getAddressBookWithMatchedPerson());
+        snapshot.write(original, dataFilePath);
+
+        assertEquals(original, new AddressBook(snapshot.read(dataFilePath).get()));
+    }
+}
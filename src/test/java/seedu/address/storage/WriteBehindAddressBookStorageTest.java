@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    // Long enough that no background write starts before the test flushes.
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_writesLatestOnce() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(recordingStorage,
+                LONG_DELAY_MILLIS);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(recordingStorage.saved.isEmpty());
+
+        storage.flushAddressBook();
+        assertEquals(1, recordingStorage.saved.size());
+        assertEquals(addressBook, new AddressBook(recordingStorage.saved.get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_laterModification_doesNotAffectSavedData() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(recordingStorage,
+                LONG_DELAY_MILLIS);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+
+        storage.flushAddressBook();
+        assertEquals(expected, new AddressBook(recordingStorage.saved.get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFailed_failureReportedOnce() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(recordingStorage,
+                LONG_DELAY_MILLIS);
+
+        IOException failure = new IOException("disk full");
+        recordingStorage.failure = failure;
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertSame(failure, assertThrows(IOException.class, storage::flushAddressBook));
+
+        recordingStorage.failure = null;
+        storage.flushAddressBook();
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+        assertEquals(1, recordingStorage.saved.size());
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFailedWithListener_failureReportedWhenItHappens() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(recordingStorage, 0);
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        storage.setSaveFailureListener(reportedFailure::complete);
+
+        IOException failure = new IOException("disk full");
+        recordingStorage.failure = failure;
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertSame(failure, reportedFailure.get(10, TimeUnit.SECONDS));
+
+        // reported already -> not thrown again
+        recordingStorage.failure = null;
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+        assertEquals(1, recordingStorage.saved.size());
+    }
+
+    @Test
+    public void flushAddressBook_jsonStorage_dataWrittenToFile() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(filePath), LONG_DELAY_MILLIS);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(filePath));
+
+        storage.flushAddressBook();
+        assertTrue(Files.exists(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_pendingSave_readsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(filePath), LONG_DELAY_MILLIS);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records every address book saved to it.
+     */
+    private static class RecordingStorage implements AddressBookStorage {
+        private final Path filePath;
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private volatile IOException failure;
+
+        RecordingStorage(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return filePath;
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, filePath);
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void flushAddressBook() {
+        }
+    }
+}
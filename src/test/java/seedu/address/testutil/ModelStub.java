@@ -1,6 +1,7 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,7 +11,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.company.Company;
 import seedu.address.model.job.Job;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -51,6 +55,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook newData) {
         throw new AssertionError("This method should not be called.");
@@ -66,6 +75,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public boolean hasOtherPerson(Person target, Person editedPerson) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasJob(Job job) {
         throw new AssertionError("This method should not be called.");
@@ -136,6 +150,31 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPersonListBySimilarName(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredJobListByRelevance(List<String> keywords, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryPlan<Person> updateFilteredPersonListByQuery(List<Condition<Person>> conditions) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryPlan<Job> updateFilteredJobListByQuery(List<Condition<Job>> conditions) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredJobList(Predicate<Job> predicate) {
         throw new AssertionError("This method should not be called.");
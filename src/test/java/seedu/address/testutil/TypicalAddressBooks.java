@@ -0,0 +1,40 @@
+package seedu.address.testutil;
+
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * A utility class containing {@code AddressBook} objects with companies, jobs and persons together to be used in tests.
+ */
+public class TypicalAddressBooks {
+
+    private TypicalAddressBooks() {} // prevents instantiation
+
+    /**
+     * Returns an {@code AddressBook} with all the typical companies and jobs.
+     */
+    public static AddressBook getAddressBookWithJobs() {
+        AddressBook ab = TypicalCompanies.getTypicalAddressBook();
+        for (Job job : TypicalJobs.getTypicalJobs()) {
+            ab.addJob(job);
+        }
+        return ab;
+    }
+
+    /**
+     * Returns an {@code AddressBook} with all the typical companies, jobs and persons, and {@code HOON} matched to
+     * the typical teaching assistant job.
+     */
+    public static AddressBook getAddressBookWithMatchedPerson() {
+        AddressBook ab = getAddressBookWithJobs();
+        for (Person person : getTypicalPersons()) {
+            ab.addPerson(person);
+        }
+        ab.addPerson(new PersonBuilder(HOON).withMatch(TypicalJobs.TA.getIdentifier()).build());
+        return ab;
+    }
+}